@@ -0,0 +1,116 @@
+package com.foririon.project.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HikariCP 커넥션 풀 상태와 커넥션 획득 대기 시간을 수집한다.
+ * context-root.xml의 dataSource 빈에 metricsTrackerFactory로 등록된다.
+ */
+public class DataSourceMetrics implements MetricsTrackerFactory {
+
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong acquireTotalNanos = new AtomicLong();
+    private final AtomicLong acquireMaxNanos = new AtomicLong();
+    private final AtomicLong usageTotalMillis = new AtomicLong();
+    private final AtomicLong usageMaxMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+
+    private final MetricsRegistry.Timer acquireTimer;
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    public DataSourceMetrics(MetricsRegistry metricsRegistry) {
+        this.acquireTimer = metricsRegistry.timer("db_pool_acquire_seconds", "Time spent waiting for a pooled connection");
+        metricsRegistry.register(this::collect);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                connectionsCreated.incrementAndGet();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireCount.incrementAndGet();
+                acquireTotalNanos.addAndGet(elapsedAcquiredNanos);
+                updateMax(acquireMaxNanos, elapsedAcquiredNanos);
+                acquireTimer.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageTotalMillis.addAndGet(elapsedBorrowedMillis);
+                updateMax(usageMaxMillis, elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.incrementAndGet();
+            }
+        };
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pool", poolName);
+
+        PoolStats pool = poolStats;
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("pending", pool.getPendingThreads());
+            stats.put("max", pool.getMaxConnections());
+        }
+
+        long count = acquireCount.get();
+        stats.put("acquireCount", count);
+        stats.put("acquireAvgMillis", count == 0 ? 0.0 : nanosToMillis(acquireTotalNanos.get()) / count);
+        stats.put("acquireMaxMillis", nanosToMillis(acquireMaxNanos.get()));
+        stats.put("usageAvgMillis", count == 0 ? 0.0 : (double) usageTotalMillis.get() / count);
+        stats.put("usageMaxMillis", usageMaxMillis.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("connectionsCreated", connectionsCreated.get());
+        return stats;
+    }
+
+    private void collect(MetricsRegistry.Scrape scrape) {
+        PoolStats pool = poolStats;
+        if (pool != null) {
+            String help = "Connections in the pool by state";
+            scrape.gauge("db_pool_connections", help, pool.getActiveConnections(), "state", "active");
+            scrape.gauge("db_pool_connections", help, pool.getIdleConnections(), "state", "idle");
+            scrape.gauge("db_pool_connections", help, pool.getMaxConnections(), "state", "max");
+            scrape.gauge("db_pool_pending_threads", "Threads waiting for a connection", pool.getPendingThreads());
+        }
+        scrape.counter("db_pool_acquire_timeouts_total", "Connection requests that timed out", timeouts.get());
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+}
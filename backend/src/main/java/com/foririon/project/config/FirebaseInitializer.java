@@ -1,19 +1,36 @@
 package com.foririon.project.config;
 
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class FirebaseInitializer {
 
+    private static final String FCM_ORIGIN = "https://fcm.googleapis.com";
+
+    // 부하 테스트용 가짜 FCM 서버 주소 (비어 있으면 실제 FCM)
+    @Value("${fcm.endpoint-override:}")
+    private String endpointOverride;
+
     @PostConstruct
     public void initialize() {
+        if (!endpointOverride.isEmpty()) {
+            initializeOverride();
+            return;
+        }
         try {
             InputStream serviceAccount = null;
 
@@ -53,4 +70,29 @@ public class FirebaseInitializer {
             throw new RuntimeException("Firebase initialization failed", e);
         }
     }
+
+    // 서비스 계정 키 없이 고정 토큰으로 인증하고, FCM 요청만 endpointOverride로 보낸다
+    private void initializeOverride() {
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) rewrite(url).openConnection())
+                .build();
+        AccessToken token = new AccessToken("override", new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(365)));
+        FirebaseOptions options = FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(token))
+                .setProjectId("override")
+                .setHttpTransport(transport)
+                .build();
+
+        if (FirebaseApp.getApps().isEmpty()) {
+            FirebaseApp.initializeApp(options);
+        }
+    }
+
+    private URL rewrite(URL url) throws IOException {
+        String value = url.toString();
+        if (value.startsWith(FCM_ORIGIN)) {
+            return new URL(endpointOverride + value.substring(FCM_ORIGIN.length()));
+        }
+        return url;
+    }
 }
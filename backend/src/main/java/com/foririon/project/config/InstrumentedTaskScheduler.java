@@ -0,0 +1,119 @@
+package com.foririon.project.config;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * @Scheduled 작업마다 실행 시간과 지연(예정 시각 대비 실제 시작이 늦어진 정도)을 기록하는 스케줄러.
+ * 풀이 모자라거나 앞선 작업이 길어지면 지연이 먼저 늘어난다.
+ */
+public class InstrumentedTaskScheduler extends ThreadPoolTaskScheduler {
+
+    private static final long serialVersionUID = 1L;
+
+    private MetricsRegistry metricsRegistry;
+
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        TimedTask timed = new TimedTask(task, Mode.TRIGGER, 0, 0);
+        return super.schedule(timed, new Trigger() {
+            @Override
+            public Date nextExecutionTime(TriggerContext triggerContext) {
+                Date next = trigger.nextExecutionTime(triggerContext);
+                if (next != null) {
+                    timed.expectedAt = next.getTime();
+                }
+                return next;
+            }
+        });
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+        return super.scheduleAtFixedRate(new TimedTask(task, Mode.FIXED_RATE, startTime.getTime(), period), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        return super.scheduleAtFixedRate(new TimedTask(task, Mode.FIXED_RATE, System.currentTimeMillis(), period), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+        return super.scheduleWithFixedDelay(new TimedTask(task, Mode.FIXED_DELAY, startTime.getTime(), delay), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+        return super.scheduleWithFixedDelay(new TimedTask(task, Mode.FIXED_DELAY, System.currentTimeMillis(), delay), delay);
+    }
+
+    // StreamServiceImpl.refreshLiveStatus 형태 (프록시면 실제 클래스 이름)
+    private static String taskName(Runnable task) {
+        if (task instanceof ScheduledMethodRunnable) {
+            ScheduledMethodRunnable method = (ScheduledMethodRunnable) task;
+            Class<?> type = ClassUtils.getUserClass(AopUtils.getTargetClass(method.getTarget()));
+            return type.getSimpleName() + "." + method.getMethod().getName();
+        }
+        return task.getClass().getSimpleName();
+    }
+
+    private enum Mode {
+        FIXED_RATE, FIXED_DELAY, TRIGGER
+    }
+
+    private class TimedTask implements Runnable {
+        private final Runnable task;
+        private final Mode mode;
+        private final long intervalMillis;
+        private final MetricsRegistry.Timer duration;
+        private final MetricsRegistry.Timer failedDuration;
+        private final MetricsRegistry.Timer lag;
+        private volatile long expectedAt;
+
+        TimedTask(Runnable task, Mode mode, long firstAt, long intervalMillis) {
+            this.task = task;
+            this.mode = mode;
+            this.intervalMillis = intervalMillis;
+            this.expectedAt = firstAt;
+            String name = taskName(task);
+            this.duration = metricsRegistry.timer("scheduler_task_duration_seconds",
+                    "Scheduled task run time", "task", name, "outcome", "ok");
+            this.failedDuration = metricsRegistry.timer("scheduler_task_duration_seconds",
+                    "Scheduled task run time", "task", name, "outcome", "error");
+            this.lag = metricsRegistry.timer("scheduler_task_lag_seconds",
+                    "Delay between the planned and actual start of a scheduled task", "task", name);
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.currentTimeMillis();
+            lag.record(Math.max(0, startedAt - expectedAt) * 1000000L);
+
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                task.run();
+                failed = false;
+            } finally {
+                (failed ? failedDuration : duration).record(System.nanoTime() - start);
+                if (mode == Mode.FIXED_DELAY) {
+                    expectedAt = System.currentTimeMillis() + intervalMillis;
+                } else if (mode == Mode.FIXED_RATE) {
+                    expectedAt += intervalMillis;
+                }
+            }
+        }
+    }
+}
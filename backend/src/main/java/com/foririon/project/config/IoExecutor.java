@@ -0,0 +1,130 @@
+package com.foririon.project.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 컨트롤러가 기다리는 DB 조회를 실행하는 전용 풀.
+ * 요청 스레드(Tomcat)는 작업을 넘기고 바로 반환되므로, 느린 DB/치지직이 붙잡는 것은 이 풀의 스레드뿐이다.
+ * 큐가 차면 작업을 거절하고 실패한 future를 돌려준다 (컨트롤러에서 503).
+ * context-root.xml에 ioExecutor 빈으로 등록된다.
+ */
+public class IoExecutor implements Executor {
+
+    private final ThreadPoolExecutor executor;
+
+    // completeWithin의 제한 시간 처리용
+    private final ScheduledExecutorService timer;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    private final MetricsRegistry.Timer queueWait;
+
+    public IoExecutor(int threads, int queueCapacity, MetricsRegistry metricsRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "io-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "io-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.queueWait = metricsRegistry.timer("io_executor_queue_wait_seconds", "Time an I/O task waited for a pool thread");
+        metricsRegistry.register(scrape -> {
+            scrape.gauge("io_executor_active_threads", "I/O pool threads running a task", executor.getActiveCount());
+            scrape.gauge("io_executor_queued_tasks", "I/O tasks waiting for a pool thread", executor.getQueue().size());
+            scrape.counter("io_executor_rejected_total", "I/O tasks rejected because the queue was full", rejected.get());
+            scrape.counter("io_executor_timeouts_total", "Waits that gave up and used the fallback value", timeouts.get());
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWait.record(System.nanoTime() - queuedAt);
+                command.run();
+            });
+            submitted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw e;
+        }
+    }
+
+    // 거절되면 RejectedExecutionException으로 실패한 future
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    // timeoutMillis 안에 끝나지 않으면 fallback 값으로 완료 (원래 작업은 계속 진행돼 캐시를 채운다)
+    public <T> CompletableFuture<T> completeWithin(CompletableFuture<T> future, long timeoutMillis, Supplier<T> fallback) {
+        if (future.isDone()) {
+            return future;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeout;
+        try {
+            timeout = timer.schedule(() -> {
+                if (result.complete(fallback.get())) {
+                    timeouts.incrementAndGet();
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            return future;
+        }
+        future.whenComplete((value, error) -> {
+            timeout.cancel(false);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("submitted", submitted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("timeouts", timeouts.get());
+        return stats;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,120 @@
+package com.foririon.project.config;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MyBatis 매퍼 구문(예: StreamMapper.findByLiveId)별 실행 횟수와 소요 시간을 기록하는 플러그인.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MapperTimingInterceptor implements Interceptor {
+
+    private final ConcurrentMap<String, StatementTiming> timings = new ConcurrentHashMap<>();
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MapperTimingInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementTiming timing = timings.computeIfAbsent(shortName(statement.getId()), this::newTiming);
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            timing.record(System.nanoTime() - start, failed);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        for (Map.Entry<String, StatementTiming> entry : timings.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().toMap());
+        }
+        return stats;
+    }
+
+    // com.foririon.project.mapper.StreamMapper.findByLiveId -> StreamMapper.findByLiveId
+    private static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int type = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? statementId.substring(type + 1) : statementId;
+    }
+
+    private StatementTiming newTiming(String statement) {
+        String help = "MyBatis mapped statement execution time";
+        return new StatementTiming(
+                metricsRegistry.timer("db_statement_duration_seconds", help, "statement", statement, "outcome", "ok"),
+                metricsRegistry.timer("db_statement_duration_seconds", help, "statement", statement, "outcome", "error"));
+    }
+
+    private static class StatementTiming {
+        private final MetricsRegistry.Timer okTimer;
+        private final MetricsRegistry.Timer errorTimer;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        StatementTiming(MetricsRegistry.Timer okTimer, MetricsRegistry.Timer errorTimer) {
+            this.okTimer = okTimer;
+            this.errorTimer = errorTimer;
+        }
+
+        void record(long elapsedNanos, boolean failed) {
+            (failed ? errorTimer : okTimer).record(elapsedNanos);
+            count.incrementAndGet();
+            if (failed) {
+                errors.incrementAndGet();
+            }
+            totalNanos.addAndGet(elapsedNanos);
+            long current;
+            while (elapsedNanos > (current = maxNanos.get())) {
+                if (maxNanos.compareAndSet(current, elapsedNanos)) {
+                    break;
+                }
+            }
+        }
+
+        Map<String, Object> toMap() {
+            long n = count.get();
+            double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", n);
+            map.put("errors", errors.get());
+            map.put("avgMillis", n == 0 ? 0.0 : totalNanos.get() / nanosPerMilli / n);
+            map.put("maxMillis", maxNanos.get() / nanosPerMilli);
+            return map;
+        }
+    }
+}
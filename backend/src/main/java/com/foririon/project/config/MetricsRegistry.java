@@ -0,0 +1,291 @@
+package com.foririon.project.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 카운터/타이머(히스토그램)/게이지를 모아 Prometheus 텍스트 형식으로 내보내는 레지스트리.
+ * 고정된 지표는 counter/timer/gauge로 한 번 만들어 두고 기록하며,
+ * 채널/캐시처럼 대상이 바뀌는 지표는 Collector로 등록해 수집 시점에 값을 읽는다.
+ * context-root.xml에 metricsRegistry 빈으로 등록된다.
+ */
+public class MetricsRegistry {
+
+    public enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        private final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    // 업스트림 호출, 쿼리, 스케줄 작업 모두 수 ms ~ 수 초 범위
+    private static final double[] BUCKET_SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKET_SECONDS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+    private final List<Collector> collectors = new CopyOnWriteArrayList<>();
+
+    /** labels는 이름, 값 순서의 쌍 (예: "endpoint", "live_status") */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, Type.COUNTER, help).metrics.computeIfAbsent(labelText(labels), key -> new Counter());
+    }
+
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) family(name, Type.HISTOGRAM, help).metrics.computeIfAbsent(labelText(labels), key -> new Timer());
+    }
+
+    // 같은 이름/라벨로 다시 등록하면 새 값 공급자로 바뀐다
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, Type.GAUGE, help).metrics.put(labelText(labels), new Gauge(value));
+    }
+
+    public void register(Collector collector) {
+        collectors.add(collector);
+    }
+
+    private Family family(String name, Type type, String help) {
+        Family family = families.computeIfAbsent(name, key -> new Family(type, help));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type.text);
+        }
+        return family;
+    }
+
+    /** Prometheus 텍스트 형식 (version 0.0.4) */
+    public String scrape() {
+        Scrape scrape = new Scrape();
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            Family family = entry.getValue();
+            for (Map.Entry<String, Object> metric : family.metrics.entrySet()) {
+                scrape.sample(entry.getKey(), family.type, family.help, metric.getKey(), metric.getValue());
+            }
+        }
+        for (Collector collector : collectors) {
+            try {
+                collector.collect(scrape);
+            } catch (RuntimeException e) {
+                // 수집기 하나가 실패해도 나머지 지표는 내보낸다
+            }
+        }
+        return scrape.render();
+    }
+
+    static String labelText(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(labels[i]).append("=\"");
+            String value = labels[i + 1] != null ? labels[i + 1] : "";
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    text.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    text.append("\\n");
+                } else {
+                    text.append(ch);
+                }
+            }
+            text.append('"');
+        }
+        return text.toString();
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    @FunctionalInterface
+    public interface Collector {
+        void collect(Scrape scrape);
+    }
+
+    public static class Counter {
+        private final LongAdder count = new LongAdder();
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        public long get() {
+            return count.sum();
+        }
+    }
+
+    /** 소요 시간 히스토그램 (초 단위 버킷) */
+    public static class Timer {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_NANOS.length];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        Timer() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long elapsedNanos) {
+            for (int i = 0; i < BUCKET_NANOS.length; i++) {
+                if (elapsedNanos <= BUCKET_NANOS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            totalNanos.add(elapsedNanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    private static class Gauge {
+        private final DoubleSupplier value;
+
+        Gauge(DoubleSupplier value) {
+            this.value = value;
+        }
+    }
+
+    private static class Family {
+        private final Type type;
+        private final String help;
+        private final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+
+        Family(Type type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+
+    /** 한 번의 수집 결과. 이름순, 라벨순으로 정렬해 출력한다 */
+    public static class Scrape {
+        private final Map<String, ScrapedFamily> scraped = new TreeMap<>();
+
+        public void counter(String name, String help, double value, String... labels) {
+            add(name, Type.COUNTER, help, labels, value);
+        }
+
+        public void gauge(String name, String help, double value, String... labels) {
+            add(name, Type.GAUGE, help, labels, value);
+        }
+
+        private void add(String name, Type type, String help, String[] labels, double value) {
+            familyFor(name, type, help).samples.put(labelText(labels), new String[]{formatValue(value)});
+        }
+
+        private void sample(String name, Type type, String help, String labels, Object metric) {
+            ScrapedFamily family = familyFor(name, type, help);
+            if (metric instanceof Counter) {
+                family.samples.put(labels, new String[]{formatValue(((Counter) metric).get())});
+            } else if (metric instanceof Gauge) {
+                double value;
+                try {
+                    value = ((Gauge) metric).value.getAsDouble();
+                } catch (RuntimeException e) {
+                    value = Double.NaN;
+                }
+                family.samples.put(labels, new String[]{formatValue(value)});
+            } else {
+                family.samples.put(labels, histogramLines(name, labels, (Timer) metric));
+            }
+        }
+
+        private ScrapedFamily familyFor(String name, Type type, String help) {
+            ScrapedFamily family = scraped.computeIfAbsent(name, key -> new ScrapedFamily(type, help));
+            if (family.type != type) {
+                throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type.text);
+            }
+            return family;
+        }
+
+        // 버킷 카운트는 누적값으로 출력
+        private static String[] histogramLines(String name, String labels, Timer timer) {
+            List<String> lines = new ArrayList<>();
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+                cumulative += timer.buckets[i].sum();
+                lines.add(name + "_bucket{" + prefix + "le=\"" + formatValue(BUCKET_SECONDS[i]) + "\"} " + cumulative);
+            }
+            long count = Math.max(cumulative, timer.count.sum());
+            String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+            lines.add(name + "_bucket{" + prefix + "le=\"+Inf\"} " + count);
+            lines.add(name + "_sum" + suffix + " " + formatValue((double) timer.totalNanos.sum() / TimeUnit.SECONDS.toNanos(1)));
+            lines.add(name + "_count" + suffix + " " + count);
+            return lines.toArray(new String[0]);
+        }
+
+        String render() {
+            StringBuilder text = new StringBuilder();
+            for (Map.Entry<String, ScrapedFamily> entry : scraped.entrySet()) {
+                String name = entry.getKey();
+                ScrapedFamily family = entry.getValue();
+                text.append("# HELP ").append(name).append(' ').append(family.help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+                text.append("# TYPE ").append(name).append(' ').append(family.type.text).append('\n');
+                for (Map.Entry<String, String[]> sample : family.samples.entrySet()) {
+                    if (family.type == Type.HISTOGRAM) {
+                        for (String line : sample.getValue()) {
+                            text.append(line).append('\n');
+                        }
+                        continue;
+                    }
+                    text.append(name);
+                    if (!sample.getKey().isEmpty()) {
+                        text.append('{').append(sample.getKey()).append('}');
+                    }
+                    text.append(' ').append(sample.getValue()[0]).append('\n');
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    private static class ScrapedFamily {
+        private final Type type;
+        private final String help;
+        private final Map<String, String[]> samples = new TreeMap<>();
+
+        ScrapedFamily(Type type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.foririon.project.controller;
 
+import com.foririon.project.service.HealthService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
@@ -11,11 +17,21 @@ import java.util.Map;
 @RequestMapping("/api")
 public class HealthController {
 
+    @Autowired
+    private HealthService healthService;
+
+    // deep=true면 DB 연결과 채널별 마지막 폴링 성공 시각까지 확인하고, 실패가 있으면 503
     @GetMapping("/health")
-    public Map<String, String> health() {
+    public ResponseEntity<Map<String, ?>> health(@RequestParam(value = "deep", defaultValue = "false") boolean deep) {
+        if (deep) {
+            Map<String, Object> result = healthService.check();
+            HttpStatus status = "UP".equals(result.get("status")) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+            return ResponseEntity.status(status).cacheControl(CacheControl.noStore()).body(result);
+        }
+
         Map<String, String> status = new HashMap<>();
         status.put("status", "UP");
         status.put("timestamp", String.valueOf(System.currentTimeMillis()));
-        return status;
+        return ResponseEntity.ok(status);
     }
-}
\ No newline at end of file
+}
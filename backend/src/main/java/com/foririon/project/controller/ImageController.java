@@ -0,0 +1,100 @@
+package com.foririon.project.controller;
+
+import com.foririon.project.service.StreamService;
+import com.foririon.project.service.ThumbnailService;
+import com.foririon.project.service.image.CachedImage;
+import com.foririon.project.service.image.ThumbnailSize;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 썸네일 프록시. 응답 본문은 디스크 캐시의 매핑된 버퍼에서 바로 쓴다.
+ * size=small|medium (없으면 원본)
+ */
+@RestController
+@RequestMapping("/api/images")
+public class ImageController {
+
+    // 다시보기 썸네일 URL은 내용이 바뀌지 않는다
+    private static final String IMMUTABLE = CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private StreamService streamService;
+
+    // GET /api/images?url=<다시보기/채널 이미지 URL>&size=small
+    @GetMapping
+    public void image(@RequestParam("url") String url,
+                      @RequestParam(value = "size", required = false) String size,
+                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                      HttpServletResponse response) throws IOException {
+        if (!thumbnailService.isAllowed(url)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        CachedImage image;
+        try {
+            image = thumbnailService.getImage(url, ThumbnailSize.of(size));
+        } catch (IOException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+        write(image, IMMUTABLE, ifNoneMatch, response);
+    }
+
+    // 방송 중인 채널의 현재 썸네일. 폴링 간격만큼 캐시하도록 한다
+    @GetMapping("/live/{channelId}")
+    public void liveImage(@PathVariable String channelId,
+                          @RequestParam(value = "size", required = false) String size,
+                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                          HttpServletResponse response) throws IOException {
+        if (!streamService.isMonitored(channelId) || !streamService.isCurrentlyLive(channelId)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CachedImage image = thumbnailService.getLiveImage(channelId, ThumbnailSize.of(size));
+        if (image == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long maxAgeSeconds = Math.max(1, streamService.getPollIntervalMillis(channelId) / 1000);
+        write(image, CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue(), ifNoneMatch, response);
+    }
+
+    private static void write(CachedImage image, String cacheControl, String ifNoneMatch, HttpServletResponse response)
+            throws IOException {
+        String etag = image.getETag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (etag.equals(ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        // 인코딩 필터가 붙인 charset은 이미지에 맞지 않으므로 지운다
+        response.setCharacterEncoding(null);
+        response.setContentType(image.getContentType());
+        response.setContentLength(image.getLength());
+
+        ByteBuffer data = image.getData();
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+}
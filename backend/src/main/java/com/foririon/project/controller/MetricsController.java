@@ -0,0 +1,152 @@
+package com.foririon.project.controller;
+
+import com.foririon.project.config.DataSourceMetrics;
+import com.foririon.project.config.IoExecutor;
+import com.foririon.project.config.MapperTimingInterceptor;
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.service.StreamScheduleService;
+import com.foririon.project.service.StreamService;
+import com.foririon.project.service.ThumbnailService;
+import com.foririon.project.service.ViewerSeriesService;
+import com.foririon.project.service.cache.ResponseSnapshots;
+import com.foririon.project.service.chzzk.ChzzkClient;
+import com.foririon.project.service.cluster.LeaderElection;
+import com.foririon.project.service.dispatch.NotificationDispatcher;
+import com.foririon.project.service.push.LiveStatusBroadcaster;
+import com.foririon.project.service.registration.TokenRegistrationBuffer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private DataSourceMetrics dataSourceMetrics;
+
+    @Autowired
+    private MapperTimingInterceptor mapperTimingInterceptor;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private StreamService streamService;
+
+    @Autowired
+    private LiveStatusBroadcaster liveStatusBroadcaster;
+
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private StreamScheduleService streamScheduleService;
+
+    @Autowired
+    private TokenRegistrationBuffer tokenRegistrationBuffer;
+
+    @Autowired
+    private ViewerSeriesService viewerSeriesService;
+
+    @Autowired
+    private ChzzkClient chzzkClient;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private IoExecutor ioExecutor;
+
+    @Autowired
+    private LeaderElection leaderElection;
+
+    // Prometheus 수집용 (업스트림/FCM/쿼리/스케줄 작업 지연과 결과, 캐시 적중, 커넥션 풀)
+    @GetMapping("/prometheus")
+    public ResponseEntity<String> prometheus() {
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .cacheControl(CacheControl.noStore())
+                .body(metricsRegistry.scrape());
+    }
+
+    // 엔드포인트별 서킷 브레이커 상태와 진행 중 호출 수
+    @GetMapping("/chzzk")
+    public Map<String, Object> chzzk() {
+        return chzzkClient.getStats();
+    }
+
+    // 썸네일 디스크 캐시 사용량과 CDN 요청 수
+    @GetMapping("/images")
+    public Map<String, Object> images() {
+        return thumbnailService.getStats();
+    }
+
+    // 비동기 컨트롤러의 DB 조회 풀 (실행 중/대기/거절 수)
+    @GetMapping("/io")
+    public Map<String, Object> io() {
+        return ioExecutor.getStats();
+    }
+
+    // 리더 임대 상태 (이 노드가 폴링 중인지, 현재 리더)
+    @GetMapping("/cluster")
+    public Map<String, Object> cluster() {
+        return leaderElection.getStats();
+    }
+
+    @GetMapping("/datasource")
+    public Map<String, Object> dataSource() {
+        return dataSourceMetrics.getStats();
+    }
+
+    @GetMapping("/mappers")
+    public Map<String, Object> mappers() {
+        return mapperTimingInterceptor.getStats();
+    }
+
+    @GetMapping("/notifications")
+    public Map<String, Object> notifications() {
+        return notificationDispatcher.getStats();
+    }
+
+    @GetMapping("/poller")
+    public Map<String, Object> poller() {
+        return streamService.getPollerStats();
+    }
+
+    @GetMapping("/sse")
+    public Map<String, Object> sse() {
+        return liveStatusBroadcaster.getStats();
+    }
+
+    @GetMapping("/responses")
+    public Map<String, Object> responses() {
+        return responseSnapshots.getStats();
+    }
+
+    @GetMapping("/schedules")
+    public Map<String, Object> schedules() {
+        return streamScheduleService.getIndexStats();
+    }
+
+    @GetMapping("/tokens")
+    public Map<String, Object> tokens() {
+        return tokenRegistrationBuffer.getStats();
+    }
+
+    @GetMapping("/viewers")
+    public Map<String, Object> viewers() {
+        return viewerSeriesService.getStats();
+    }
+}
@@ -1,13 +1,23 @@
 package com.foririon.project.controller;
 
 import com.foririon.project.service.ReplayService;
+import com.foririon.project.service.StreamService;
+import com.foririon.project.service.cache.ResponseSnapshots;
+import com.foririon.project.service.chzzk.ChannelRegistry;
 import com.foririon.project.vo.ReplayVO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/stream")
@@ -16,8 +26,58 @@ public class ReplayController {
     @Autowired
     private ReplayService replayService;
 
+    @Autowired
+    private StreamService streamService;
+
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private ChannelRegistry channelRegistry;
+
+    // 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서(이번 페이지 마지막 videoNo)를 알려준다
+    // 커서 페이지는 DB 조회라 ioExecutor에서 실행되고, 요청 스레드는 결과를 기다리지 않는다
     @GetMapping("/replays")
-    public List<ReplayVO> getReplays() {
-        return replayService.getReplays();
+    public CompletableFuture<ResponseEntity<byte[]>> getReplays(@RequestParam(value = "channel", required = false) String channel,
+                                                                @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                @RequestParam(value = "limit", required = false) Integer limit,
+                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (channel != null && !streamService.isMonitored(channel)) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+
+        String channelId = channel != null ? channel : channelRegistry.getDefaultChannelId();
+        if (cursor == null && limit == null) {
+            String key = "replays:" + (channel != null ? channel : "default");
+            return replayService.getReplaysAsync(channelId).thenApply(replays ->
+                    SnapshotResponse.of(responseSnapshots.snapshot(key, replays), ifNoneMatch, acceptEncoding, CacheControl.noCache(),
+                            headers(channelId, replays, replayService.pageLimit(0))));
+        }
+
+        return SnapshotResponse.orUnavailable(
+                replayService.getReplaysAsync(channelId, cursor, limit != null ? limit : 0).thenApply(replays ->
+                        SnapshotResponse.of(responseSnapshots.serialize(replays), ifNoneMatch, acceptEncoding, CacheControl.noCache(),
+                                headers(channelId, replays, replayService.pageLimit(limit != null ? limit : 0)))));
+    }
+
+    // 카탈로그 동기화가 실패 중이면 X-Data-Stale/X-Data-Age (마지막 동기화 성공 기준)
+    // limit은 서비스가 실제로 쓴 페이지 크기 (꽉 찬 페이지일 때만 다음 커서가 있다)
+    private HttpHeaders headers(String channelId, List<ReplayVO> replays, int limit) {
+        HttpHeaders headers = SnapshotResponse.staleHeaders(new HttpHeaders(),
+                replayService.isCatalogStale(channelId), replayService.getCatalogSyncedAt(channelId));
+        if (replays.isEmpty() || replays.size() < limit) {
+            return headers;
+        }
+        Integer lastVideoNo = replays.get(replays.size() - 1).getVideoNo();
+        if (lastVideoNo != null) {
+            headers.set("X-Next-Cursor", String.valueOf(lastVideoNo));
+        }
+        return headers;
+    }
+
+    @GetMapping("/replays/stats")
+    public Map<String, Object> getReplayCacheStats() {
+        return replayService.getCacheStats();
     }
 }
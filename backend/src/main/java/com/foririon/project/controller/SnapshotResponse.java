@@ -0,0 +1,80 @@
+package com.foririon.project.controller;
+
+import com.foririon.project.service.cache.SerializedSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 미리 직렬화된 스냅샷을 그대로 응답 본문으로 쓰는 헬퍼.
+ * If-None-Match가 일치하면 304, gzip을 받는 클라이언트에는 미리 압축한 바이트를 보낸다.
+ */
+final class SnapshotResponse {
+
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+    static final String DATA_STALE = "X-Data-Stale";
+    static final String DATA_AGE = "X-Data-Age";
+
+    private SnapshotResponse() {
+    }
+
+    static ResponseEntity<byte[]> of(SerializedSnapshot snapshot, String ifNoneMatch, String acceptEncoding, CacheControl cacheControl) {
+        return of(snapshot, ifNoneMatch, acceptEncoding, cacheControl, HttpHeaders.EMPTY);
+    }
+
+    // 치지직 장애로 마지막 정상 값을 제공할 때 표시 (X-Data-Age: 마지막 갱신 후 초)
+    static HttpHeaders staleHeaders(HttpHeaders headers, boolean stale, long updatedAt) {
+        if (stale) {
+            headers.set(DATA_STALE, "true");
+            if (updatedAt > 0) {
+                headers.set(DATA_AGE, String.valueOf(Math.max(0, (System.currentTimeMillis() - updatedAt) / 1000)));
+            }
+        }
+        return headers;
+    }
+
+    // I/O 풀이 가득 차 조회를 받지 못했으면 503 (다른 오류는 그대로 MVC 예외 처리로)
+    static <T> CompletableFuture<ResponseEntity<T>> orUnavailable(CompletableFuture<ResponseEntity<T>> response) {
+        return response.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RejectedExecutionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+    }
+
+    static ResponseEntity<byte[]> of(SerializedSnapshot snapshot, String ifNoneMatch, String acceptEncoding, CacheControl cacheControl,
+                                     HttpHeaders extraHeaders) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .headers(extraHeaders)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(JSON_UTF8)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .headers(extraHeaders);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return builder.body(snapshot.getJson());
+    }
+}
@@ -1,13 +1,27 @@
 package com.foririon.project.controller;
 
 import com.foririon.project.service.StreamService;
-import com.foririon.project.vo.LiveStatusContentVO;
+import com.foririon.project.service.ViewerSeriesService;
+import com.foririon.project.service.cache.ResponseSnapshots;
+import com.foririon.project.service.chzzk.ChannelRegistry;
+import com.foririon.project.service.push.LiveStatusBroadcaster;
+import com.foririon.project.vo.ViewerSeriesVO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/stream")
@@ -16,16 +30,78 @@ public class StreamController {
     @Autowired
     private StreamService streamService;
 
+    @Autowired
+    private ChannelRegistry channelRegistry;
+
+    @Autowired
+    private LiveStatusBroadcaster liveStatusBroadcaster;
+
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private ViewerSeriesService viewerSeriesService;
+
+    // 응답 바이트는 상태가 갱신될 때 한 번만 직렬화하고, 클라이언트는 ETag로 재검증한다
+    // 치지직 장애 중에는 마지막 상태를 그대로 주고 X-Data-Stale/X-Data-Age 헤더로 알린다
+    // 콜드 스타트(첫 로드 전)에도 요청 스레드는 기다리지 않고 로드가 끝나면 응답한다
     @GetMapping("/live-status")
-    public ResponseEntity<LiveStatusContentVO> liveStatus() {
+    public CompletableFuture<ResponseEntity<byte[]>> liveStatus(@RequestParam(value = "channel", required = false) String channel,
+                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (channel != null && !streamService.isMonitored(channel)) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        String channelId = channelRegistry.resolve(channel);
+        return streamService.getLiveStatusAsync(channelId).thenApply(status -> {
+            if (status == null) {
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().noStore())
+                        .header("Pragma", "no-cache")
+                        .<byte[]>build();
+            }
+            HttpHeaders headers = SnapshotResponse.staleHeaders(new HttpHeaders(),
+                    streamService.isLiveStatusStale(channelId), streamService.getLastPollSuccessAt(channelId));
+            return SnapshotResponse.of(responseSnapshots.snapshot("live-status:" + channelId, status),
+                    ifNoneMatch, acceptEncoding, CacheControl.noCache(), headers);
+        });
+    }
+
+    // 상태 변경 시에만 이벤트를 받는 SSE 구독 (재연결 시 브라우저가 Last-Event-ID를 보냄)
+    // 첫 이벤트는 이미 로드된 상태만 쓰고 (콜드 스타트에 요청 스레드를 붙잡지 않음), 로드가 끝나면 publish로 전달된다
+    @GetMapping(value = "/live-status/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> liveStatusEvents(@RequestParam(value = "channel", required = false) String channel,
+                                                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (channel != null && !streamService.isMonitored(channel)) {
+            return ResponseEntity.notFound().build();
+        }
+        String channelId = channelRegistry.resolve(channel);
+        SseEmitter emitter = liveStatusBroadcaster.subscribe(channelId, lastEventId, streamService.peekLiveStatus(channelId));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
         return ResponseEntity.ok()
-                .cacheControl(CacheControl.noCache().noStore())
-                .header("Pragma", "no-cache")
-                .body(streamService.getLiveStatus());
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
     }
 
     @GetMapping("/is-live")
-    public boolean isCurrentlyLive() {
-        return streamService.isCurrentlyLive();
+    public CompletableFuture<Boolean> isCurrentlyLive(@RequestParam(value = "channel", required = false) String channel) {
+        return streamService.isCurrentlyLiveAsync(channel != null ? channel : channelRegistry.getDefaultChannelId());
+    }
+
+    // 종료된 방송은 더 바뀌지 않으므로 캐시 허용
+    @GetMapping("/{liveId}/viewers")
+    public CompletableFuture<ResponseEntity<ViewerSeriesVO>> viewers(@PathVariable("liveId") String liveId,
+                                                                     @RequestParam(value = "buckets", defaultValue = "120") int buckets) {
+        return SnapshotResponse.orUnavailable(viewerSeriesService.getSeriesAsync(liveId, buckets).thenApply(series -> {
+            if (series == null) {
+                return ResponseEntity.notFound().build();
+            }
+            CacheControl cacheControl = series.getEndTime() != null
+                    ? CacheControl.maxAge(1, TimeUnit.HOURS) : CacheControl.noCache();
+            return ResponseEntity.ok().cacheControl(cacheControl).body(series);
+        }));
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,72 @@
 package com.foririon.project.controller;
 
 import com.foririon.project.service.StreamScheduleService;
-import com.foririon.project.vo.StreamScheduleVO;
+import com.foririon.project.service.cache.ResponseSnapshots;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/schedules")
 public class StreamScheduleController {
 
+    private static final ZoneId SCHEDULE_ZONE = ZoneId.of("Asia/Seoul");
+
     @Autowired
     private StreamScheduleService streamScheduleService;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    // from/to는 2024-01-15, 2024-01-15T19:00:00, 2024-01-15T19:00:00+09:00 형식 (오프셋이 없으면 한국 시간)
+    // 인덱스 밖(오래된 구간) 조회는 ioExecutor에서 DB를 읽고, 요청 스레드는 결과를 기다리지 않는다
     @GetMapping
-    public List<StreamScheduleVO> getAllSchedules() {
-        return streamScheduleService.getSchedules();
+    public CompletableFuture<ResponseEntity<byte[]>> getSchedules(@RequestParam(value = "from", required = false) String from,
+                                                                  @RequestParam(value = "to", required = false) String to,
+                                                                  @RequestParam(value = "limit", required = false) Integer limit,
+                                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (from == null && to == null && limit == null) {
+            return SnapshotResponse.orUnavailable(streamScheduleService.getSchedulesAsync().thenApply(schedules ->
+                    SnapshotResponse.of(responseSnapshots.snapshot("schedules", schedules), ifNoneMatch, acceptEncoding, CacheControl.noCache())));
+        }
+
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = from != null ? parseTime(from) : new Date(0);
+            toDate = to != null ? parseTime(to) : null;
+        } catch (DateTimeParseException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+
+        return SnapshotResponse.orUnavailable(
+                streamScheduleService.getSchedulesAsync(fromDate, toDate, limit != null ? limit : 0).thenApply(schedules ->
+                        SnapshotResponse.of(responseSnapshots.serialize(schedules), ifNoneMatch, acceptEncoding, CacheControl.noCache())));
+    }
+
+    private Date parseTime(String value) {
+        if (value.length() == 10) {
+            return Date.from(LocalDate.parse(value).atStartOfDay(SCHEDULE_ZONE).toInstant());
+        }
+        try {
+            return Date.from(OffsetDateTime.parse(value).toInstant());
+        } catch (DateTimeParseException e) {
+            return Date.from(LocalDateTime.parse(value).atZone(SCHEDULE_ZONE).toInstant());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.foririon.project.mapper;
+
+import com.foririon.project.vo.ChannelVO;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface ChannelMapper {
+    List<ChannelVO> findActiveChannels();
+}
@@ -0,0 +1,13 @@
+package com.foririon.project.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ClusterLeaseMapper {
+    int insertIfAbsent(@Param("name") String name);
+    // 비어 있거나(만료) 이미 내 임대면 ttlMillis만큼 연장, 1이면 리더
+    int tryAcquire(@Param("name") String name, @Param("holder") String holder, @Param("ttlMillis") long ttlMillis);
+    int release(@Param("name") String name, @Param("holder") String holder);
+    String findHolder(@Param("name") String name);
+}
@@ -0,0 +1,17 @@
+package com.foririon.project.mapper;
+
+import com.foririon.project.vo.LiveStateVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface LiveStateMapper {
+    int upsertLiveState(LiveStateVO state);
+    // 폴링 실패: 마지막 상태는 그대로 두고 stale만 표시
+    int markStale(@Param("channelId") String channelId, @Param("leaderId") String leaderId,
+                  @Param("pollIntervalMillis") long pollIntervalMillis, @Param("updatedAt") long updatedAt);
+    List<LiveStateVO> findAll();
+    LiveStateVO findByChannelId(@Param("channelId") String channelId);
+}
@@ -1,10 +1,19 @@
 package com.foririon.project.mapper;
 
+import com.foririon.project.vo.DeviceVO;
+import org.apache.ibatis.annotations.Param;
+
 import java.util.List;
 
 public interface NotificationMapper {
 
-    void insertToken(String fcmToken);
+    // 새 토큰 여러 개를 한 번에 저장, 실제로 추가된 행 수 반환
+    int insertTokens(@Param("tokens") List<String> tokens);
 
     List<String> getAllTokens();
+
+    // id 기준 keyset 페이지 조회 (전체 토큰을 한 번에 올리지 않기 위함)
+    List<DeviceVO> findActiveTokensAfter(@Param("afterId") int afterId, @Param("limit") int limit);
+
+    int deactivateTokens(@Param("tokens") List<String> tokens);
 }
@@ -0,0 +1,20 @@
+package com.foririon.project.mapper;
+
+import com.foririon.project.vo.NotificationOutboxVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+    // idempotency_key가 이미 있으면 무시 (같은 방송에 대한 중복 적재 방지)
+    int insertIgnore(NotificationOutboxVO outbox);
+    List<NotificationOutboxVO> findDue(@Param("limit") int limit);
+    int claim(@Param("ids") List<Long> ids, @Param("leaseSeconds") int leaseSeconds);
+    int markSent(@Param("ids") List<Long> ids);
+    int markFailedAttempt(@Param("ids") List<Long> ids,
+                          @Param("maxAttempts") int maxAttempts,
+                          @Param("baseBackoffSeconds") int baseBackoffSeconds,
+                          @Param("maxBackoffSeconds") int maxBackoffSeconds);
+}
@@ -0,0 +1,16 @@
+package com.foririon.project.mapper;
+
+import com.foririon.project.vo.ReplayVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface ReplayMapper {
+    Long findMaxVideoNo(@Param("channelId") String channelId);
+    int countReplays(@Param("channelId") String channelId);
+    // cursor가 null이면 최신부터, 아니면 video_no < cursor
+    List<ReplayVO> findReplaysBefore(@Param("channelId") String channelId, @Param("cursor") Long cursor, @Param("limit") int limit);
+    int upsertReplays(@Param("channelId") String channelId, @Param("replays") List<ReplayVO> replays);
+}
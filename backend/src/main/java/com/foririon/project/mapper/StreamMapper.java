@@ -4,9 +4,14 @@ import com.foririon.project.vo.StreamVO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
+import java.util.List;
+
 @Mapper
 public interface StreamMapper {
     StreamVO findByLiveId(@Param("liveId") String liveId);
-    void insertStream(StreamVO stream);
-    void updateNotificationSent(@Param("liveId") String liveId);
+    // 방송 기록을 만들면서 알림 권한을 가져감, 1이면 이 호출이 처음 (0이면 이미 다른 폴링/노드가 가져감)
+    int claimStreamStart(StreamVO stream);
+    int updateNotificationSentBulk(@Param("liveIds") List<String> liveIds);
+    int updateEndTime(@Param("liveId") String liveId, @Param("endTime") Date endTime);
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.foririon.project.mapper;
 
 import com.foririon.project.vo.StreamScheduleVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
 import java.util.List;
 
 @Mapper
 public interface StreamScheduleMapper {
-    List<StreamScheduleVO> findAllSchedules();
-}
\ No newline at end of file
+    List<StreamScheduleVO> findSchedulesFrom(@Param("from") Date from);
+    List<StreamScheduleVO> findSchedulesBetween(@Param("from") Date from, @Param("to") Date to, @Param("limit") int limit);
+    String findScheduleVersion();
+}
@@ -0,0 +1,13 @@
+package com.foririon.project.mapper;
+
+import com.foririon.project.vo.ViewerChunkVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface ViewerSampleMapper {
+    int insertChunks(@Param("chunks") List<ViewerChunkVO> chunks);
+    List<ViewerChunkVO> findChunks(@Param("liveId") String liveId);
+}
@@ -0,0 +1,36 @@
+package com.foririon.project.scheduler;
+
+import com.foririon.project.service.NotificationOutboxService;
+import com.foririon.project.service.cluster.LeaderElection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final LeaderElection leaderElection;
+
+    @Autowired
+    public NotificationOutboxRelay(NotificationOutboxService notificationOutboxService, LeaderElection leaderElection) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.leaderElection = leaderElection;
+    }
+
+    // 재시작 후에도 PENDING 상태로 남은 알림을 이어서 전송
+    // findDue는 행을 선점하지 않으므로 여러 노드면 리더만 전송한다
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:2000}", initialDelayString = "${outbox.relay-initial-delay-ms:5000}")
+    public void relay() {
+        try {
+            if (!leaderElection.isLeader()) {
+                // 리더를 잃기 전에 시작한 전송 결과는 반영한다
+                notificationOutboxService.settleCompleted();
+                return;
+            }
+            notificationOutboxService.relayDue();
+        } catch (Exception e) {
+            // DB 오류 시 다음 주기에 다시 시도
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.foririon.project.scheduler;
 
-import com.foririon.project.service.NotificationService;
+import com.foririon.project.service.NotificationOutboxService;
 import com.foririon.project.service.StreamService;
+import com.foririon.project.service.cluster.LeaderElection;
 import com.foririon.project.vo.LiveStatusContentVO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,34 +12,30 @@ import org.springframework.stereotype.Component;
 public class StreamCheckScheduler {
 
     private final StreamService streamService;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final LeaderElection leaderElection;
 
     @Autowired
-    public StreamCheckScheduler(StreamService streamService, NotificationService notificationService) {
+    public StreamCheckScheduler(StreamService streamService, NotificationOutboxService notificationOutboxService,
+                                LeaderElection leaderElection) {
         this.streamService = streamService;
-        this.notificationService = notificationService;
+        this.notificationOutboxService = notificationOutboxService;
+        this.leaderElection = leaderElection;
     }
 
-    @Scheduled(cron = "0 * * * * ?")
+    // 방송 시작은 폴러가 전환 즉시 적재하므로, 여기서는 놓친 건만 주기적으로 보완한다
+    @Scheduled(cron = "${stream.check.sweep-cron:0 * * * * ?}")
     public void checkLiveStatus() {
-        LiveStatusContentVO status = streamService.getLiveStatus();
-
-        if (status == null) {
+        if (!leaderElection.isLeader()) {
             return;
         }
+        for (LiveStatusContentVO status : streamService.getAllLiveStatuses()) {
+            boolean isLive = "OPEN".equals(status.getStatus());
+            String liveId = status.getLiveId();
 
-        boolean isLive = "OPEN".equals(status.getStatus());
-        String liveId = status.getLiveId();
-
-        if (isLive && liveId != null) {
-            if (streamService.shouldSendNotification(liveId)) {
-                streamService.recordStreamStart(status);
-
-                String title = "이리온 방송 시작!";
-                String body = status.getLiveTitle();
-                notificationService.sendNotification(title, body);
-
-                streamService.markNotificationAsSent(liveId);
+            if (isLive && liveId != null) {
+                // 이미 기록된 방송이면 INSERT 한 번으로 끝남, 처음이면 아웃박스에 적재하고 실제 전송은 NotificationOutboxRelay가 담당
+                notificationOutboxService.claimStreamStart(status);
             }
         }
     }
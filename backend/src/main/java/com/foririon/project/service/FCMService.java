@@ -1,6 +1,9 @@
 package com.foririon.project.service;
 
+import com.foririon.project.vo.FanoutResultVO;
+
 public interface FCMService {
     void sendToTopic(String topic, String title, String body, String type);
     void sendToToken(String token, String title, String body, String type);
+    FanoutResultVO sendToAllDevices(String title, String body, String type);
 }
@@ -0,0 +1,8 @@
+package com.foririon.project.service;
+
+import java.util.Map;
+
+public interface HealthService {
+    // DB 연결과 채널별 마지막 폴링 성공 시각 확인 (status가 DOWN이면 하나 이상 실패)
+    Map<String, Object> check();
+}
@@ -0,0 +1,13 @@
+package com.foririon.project.service;
+
+import com.foririon.project.vo.LiveStatusContentVO;
+
+public interface NotificationOutboxService {
+    // 방송 시작 알림 권한을 가져오고, 가져온 경우에만 같은 트랜잭션으로 live_start 아웃박스 적재
+    // 이미 다른 폴링/노드가 가져갔으면 false
+    boolean claimStreamStart(LiveStatusContentVO content);
+    // 전송 시점이 된 아웃박스를 선점해 배치로 전송을 시작하고, 시작한 건수를 반환 (결과는 끝나는 대로 settleCompleted가 반영)
+    int relayDue();
+    // 전송이 끝난 아웃박스의 성공/실패를 DB에 반영하고, 반영한 건수를 반환
+    int settleCompleted();
+}
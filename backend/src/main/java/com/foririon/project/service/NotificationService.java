@@ -1,9 +1,14 @@
 package com.foririon.project.service;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface NotificationService {
 
     void registerToken(String fcmToken);
 
     void sendNotification(String title, String body);
 
+    // 전송 결과가 필요한 경우 (아웃박스 릴레이 등), type은 앱이 알림을 눌렀을 때 분기하는 data.type
+    CompletableFuture<Void> deliver(String topic, String title, String body, String type);
+
 }
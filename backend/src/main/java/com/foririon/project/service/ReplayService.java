@@ -2,7 +2,21 @@ package com.foririon.project.service;
 
 import com.foririon.project.vo.ReplayVO;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface ReplayService {
     List<ReplayVO> getReplays();
+    List<ReplayVO> getReplays(String channelId);
+    // 카탈로그 키셋 페이지 (cursor: 이전 페이지 마지막 videoNo, null이면 최신부터)
+    List<ReplayVO> getReplays(String channelId, Long cursor, int limit);
+    // 위 두 조회의 비동기 버전 (DB 조회는 ioExecutor에서 실행)
+    CompletableFuture<List<ReplayVO>> getReplaysAsync(String channelId);
+    CompletableFuture<List<ReplayVO>> getReplaysAsync(String channelId, Long cursor, int limit);
+    // 실제로 쓰는 페이지 크기 (0 이하면 기본값, max-limit으로 제한)
+    int pageLimit(int limit);
+    // 마지막 카탈로그 동기화가 치지직/DB 오류로 실패했는지, 마지막 성공 시각 (없으면 0)
+    boolean isCatalogStale(String channelId);
+    long getCatalogSyncedAt(String channelId);
+    Map<String, Object> getCacheStats();
 }
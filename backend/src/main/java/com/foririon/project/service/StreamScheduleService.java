@@ -2,8 +2,20 @@ package com.foririon.project.service;
 
 import com.foririon.project.vo.StreamScheduleVO;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface StreamScheduleService {
+    // 기본 범위 (최근 며칠 전부터 이후 일정, 최대 기본 개수)
     List<StreamScheduleVO> getSchedules();
-}
\ No newline at end of file
+    // [from, to) 범위 조회, to가 null이면 끝까지
+    List<StreamScheduleVO> getSchedules(Date from, Date to, int limit);
+    // 인덱스로 답할 수 있으면 바로 완료, DB를 읽어야 하면 ioExecutor에서 조회
+    CompletableFuture<List<StreamScheduleVO>> getSchedulesAsync();
+    CompletableFuture<List<StreamScheduleVO>> getSchedulesAsync(Date from, Date to, int limit);
+    // 예정 시작 시간 전후 구간(폴링을 촘촘히 할 구간)에 속하는지 확인
+    boolean isWithinScheduleWindow(long nowMillis, long beforeMillis, long afterMillis);
+    Map<String, Object> getIndexStats();
+}
@@ -2,11 +2,23 @@ package com.foririon.project.service;
 
 import com.foririon.project.vo.LiveStatusContentVO;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface StreamService {
     LiveStatusContentVO getLiveStatus(); // LiveStatusContentVO를 반환하도록 수정
+    LiveStatusContentVO getLiveStatus(String channelId);
+    // 요청 스레드를 막지 않는 조회 (콜드 스타트면 첫 로드가 끝나거나 대기 시간이 지날 때 완료)
+    CompletableFuture<LiveStatusContentVO> getLiveStatusAsync(String channelId);
+    // 로드를 유발하지 않고 현재 스냅샷만 (없으면 null)
+    LiveStatusContentVO peekLiveStatus(String channelId);
+    List<LiveStatusContentVO> getAllLiveStatuses(); // 모니터링 중인 채널 중 상태가 로드된 것만
     boolean isCurrentlyLive();
-    boolean shouldSendNotification(String liveId);
-    void recordStreamStart(LiveStatusContentVO content); // LiveStatusContentVO를 받도록 수정
-    void markNotificationAsSent(String liveId);
-}
\ No newline at end of file
+    boolean isCurrentlyLive(String channelId);
+    CompletableFuture<Boolean> isCurrentlyLiveAsync(String channelId);
+    boolean isMonitored(String channelId);
+    long getLastPollSuccessAt(String channelId); // 마지막으로 상태를 받아온 시각 (없으면 0)
+    boolean isLiveStatusStale(String channelId); // 마지막 폴링이 실패해 이전 상태를 제공 중인지
+    long getPollIntervalMillis(String channelId);
+    Map<String, Object> getPollerStats();
+}
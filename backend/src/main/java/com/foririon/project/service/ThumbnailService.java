@@ -0,0 +1,15 @@
+package com.foririon.project.service;
+
+import com.foririon.project.service.image.CachedImage;
+import com.foririon.project.service.image.ThumbnailSize;
+
+import java.io.IOException;
+import java.util.Map;
+
+public interface ThumbnailService {
+    boolean isAllowed(String url); // 프록시할 수 있는 이미지 호스트인지
+    CachedImage getImage(String url, ThumbnailSize size) throws IOException; // 처음 요청 때 한 번 받아 디스크에 저장
+    CachedImage getLiveImage(String channelId, ThumbnailSize size); // 폴러가 마지막으로 받아 둔 방송 썸네일 (없으면 null)
+    void refreshLive(String channelId, String url); // 폴링마다 호출, 백그라운드에서 다시 받음
+    Map<String, Object> getStats();
+}
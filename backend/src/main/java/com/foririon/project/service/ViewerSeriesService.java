@@ -0,0 +1,17 @@
+package com.foririon.project.service;
+
+import com.foririon.project.vo.ViewerSeriesVO;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface ViewerSeriesService {
+    // 폴링 한 번의 시청자 수 샘플 (메모리 버퍼에 쌓였다가 주기적으로 저장)
+    void record(String liveId, long time, int concurrentUserCount);
+    // 방송 종료 감지 시 남은 샘플을 저장하고 streams.end_time 기록
+    void streamEnded(String liveId, long endedAt);
+    void flush();
+    // buckets 개 이하의 구간으로 줄인 min/max/avg 시계열, 데이터가 없으면 null
+    ViewerSeriesVO getSeries(String liveId, int buckets);
+    CompletableFuture<ViewerSeriesVO> getSeriesAsync(String liveId, int buckets);
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,17 @@
+package com.foririon.project.service.cache;
+
+import com.foririon.project.vo.LiveStatusContentVO;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 채널별 라이브 상태를 메모리에 들고 있는 공유 스냅샷.
+ * 요청 스레드는 스냅샷만 읽고, 치지직 호출은 채널당 한 번에 하나의 갱신에서만 일어난다.
+ */
+public class LiveStatusSnapshot extends RefreshingSnapshot<LiveStatusContentVO> {
+
+    public LiveStatusSnapshot(String channelId, Supplier<LiveStatusContentVO> loader, long ttlMillis, long coldWaitMillis, Executor refresher) {
+        super("live-status:" + channelId, loader, ttlMillis, coldWaitMillis, refresher);
+    }
+}
@@ -0,0 +1,176 @@
+package com.foririon.project.service.cache;
+
+import com.foririon.project.config.MetricsRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 백그라운드에서 값을 다시 불러오는 메모리 스냅샷.
+ * 갱신은 주입받은 executor에서 실행되며(여러 스냅샷이 풀을 공유할 수 있음),
+ * 동시에 들어온 갱신 요청은 하나로 합쳐지고, TTL이 지난 값은 갱신이 끝날 때까지 그대로 제공된다.
+ * 로더가 null을 반환하거나 예외를 던지면 마지막 정상 값을 유지하고, 다음 갱신이 성공할 때까지 stale로 표시한다.
+ */
+public class RefreshingSnapshot<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final long ttlMillis;
+    private final long coldWaitMillis;
+
+    private final Executor refresher;
+
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    private volatile T value;
+    private volatile long loadedAt;
+    private volatile boolean stale;
+
+    public RefreshingSnapshot(String name, Supplier<T> loader, long ttlMillis, long coldWaitMillis, Executor refresher) {
+        this.name = name;
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+        this.coldWaitMillis = coldWaitMillis;
+        this.refresher = refresher;
+    }
+
+    public T get() {
+        T current = value;
+
+        // 아직 한 번도 로드되지 않았으면 진행 중인 로드에 합류
+        if (current == null) {
+            misses.incrementAndGet();
+            try {
+                return refresh().get(coldWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                return value;
+            }
+        }
+
+        // TTL이 지났으면 기존 값을 그대로 주고 백그라운드에서 갱신
+        if (isExpired()) {
+            staleHits.incrementAndGet();
+            refresh();
+        } else {
+            hits.incrementAndGet();
+        }
+        return current;
+    }
+
+    // get()과 같지만 콜드 스타트에도 기다리지 않고 진행 중인 로드의 future를 돌려준다 (대기 시간은 호출자가 정함)
+    public CompletableFuture<T> getAsync() {
+        T current = value;
+        if (current == null) {
+            misses.incrementAndGet();
+            return refresh();
+        }
+        if (isExpired()) {
+            staleHits.incrementAndGet();
+            refresh();
+        } else {
+            hits.incrementAndGet();
+        }
+        return CompletableFuture.completedFuture(current);
+    }
+
+    // 갱신을 유발하지 않고 현재 값만 확인 (백그라운드 작업용)
+    public T peek() {
+        return value;
+    }
+
+    public CompletableFuture<T> refresh() {
+        CompletableFuture<T> existing = inFlight.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, future)) {
+            return inFlight.get();
+        }
+
+        try {
+            refresher.execute(() -> runRefresh(future));
+        } catch (RuntimeException e) {
+            // executor가 종료/포화 상태면 현재 값으로 즉시 완료
+            inFlight.set(null);
+            future.complete(value);
+        }
+        return future;
+    }
+
+    private void runRefresh(CompletableFuture<T> future) {
+        refreshes.incrementAndGet();
+        try {
+            T loaded = loader.get();
+            if (loaded != null) {
+                value = loaded;
+                loadedAt = System.currentTimeMillis();
+                stale = false;
+            } else {
+                refreshFailures.incrementAndGet();
+                stale = true;
+            }
+        } catch (Throwable t) {
+            refreshFailures.incrementAndGet();
+            stale = true;
+        } finally {
+            inFlight.set(null);
+            future.complete(value);
+        }
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() - loadedAt >= ttlMillis;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    // 마지막 갱신이 실패해 이전 값을 제공 중인지
+    public boolean isStale() {
+        return stale && value != null;
+    }
+
+    // 조회 결과(hit/stale/miss)와 갱신 결과를 cache 라벨로 내보낸다 (소유 서비스의 Collector에서 호출)
+    public void collect(MetricsRegistry.Scrape scrape) {
+        String requestsHelp = "Snapshot reads by result (stale = served expired value while refreshing)";
+        scrape.counter("cache_requests_total", requestsHelp, hits.get(), "cache", name, "result", "hit");
+        scrape.counter("cache_requests_total", requestsHelp, staleHits.get(), "cache", name, "result", "stale");
+        scrape.counter("cache_requests_total", requestsHelp, misses.get(), "cache", name, "result", "miss");
+        String refreshHelp = "Snapshot reloads by outcome (failed keeps the previous value)";
+        scrape.counter("cache_refreshes_total", refreshHelp, refreshes.get() - refreshFailures.get(), "cache", name, "outcome", "ok");
+        scrape.counter("cache_refreshes_total", refreshHelp, refreshFailures.get(), "cache", name, "outcome", "failed");
+        if (loadedAt > 0) {
+            scrape.gauge("cache_age_seconds", "Time since the snapshot was last loaded successfully",
+                    (System.currentTimeMillis() - loadedAt) / 1000.0, "cache", name);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("hits", hits.get());
+        stats.put("staleHits", staleHits.get());
+        stats.put("misses", misses.get());
+        stats.put("refreshes", refreshes.get());
+        stats.put("refreshFailures", refreshFailures.get());
+        stats.put("ttlMillis", ttlMillis);
+        stats.put("ageMillis", loadedAt == 0 ? -1 : System.currentTimeMillis() - loadedAt);
+        stats.put("stale", isStale());
+        return stats;
+    }
+}
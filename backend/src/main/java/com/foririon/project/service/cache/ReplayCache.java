@@ -0,0 +1,17 @@
+package com.foririon.project.service.cache;
+
+import com.foririon.project.vo.ReplayVO;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 다시보기 목록 캐시. 업스트림 오류 시 빈 목록 대신 마지막 정상 목록을 유지한다.
+ */
+public class ReplayCache extends RefreshingSnapshot<List<ReplayVO>> {
+
+    public ReplayCache(String channelId, Supplier<List<ReplayVO>> loader, long ttlMillis, long coldWaitMillis, Executor refresher) {
+        super("replays:" + channelId, loader, ttlMillis, coldWaitMillis, refresher);
+    }
+}
@@ -0,0 +1,81 @@
+package com.foririon.project.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foririon.project.config.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리소스별 직렬화 결과 캐시.
+ * 스냅샷/캐시가 돌려주는 객체가 바뀌었을 때(참조 비교)만 다시 직렬화하고, 그 외에는 같은 바이트를 재사용한다.
+ */
+@Component
+public class ResponseSnapshots {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong serializations = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+    private final AtomicLong uncached = new AtomicLong();
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @PostConstruct
+    public void registerMetrics() {
+        metricsRegistry.register(scrape -> {
+            String help = "Response serializations (reused = cached bytes served, uncached = per-query responses)";
+            scrape.counter("response_snapshots_total", help, reuses.get(), "result", "reused");
+            scrape.counter("response_snapshots_total", help, serializations.get(), "result", "serialized");
+            scrape.counter("response_snapshots_total", help, uncached.get(), "result", "uncached");
+        });
+    }
+
+    public SerializedSnapshot snapshot(String key, Object value) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.source == value) {
+            reuses.incrementAndGet();
+            return entry.snapshot;
+        }
+
+        // 동시에 바뀐 값을 보면 각자 직렬화해도 결과가 같으므로 잠그지 않는다
+        SerializedSnapshot snapshot = SerializedSnapshot.of(objectMapper, value);
+        entries.put(key, new Entry(value, snapshot));
+        serializations.incrementAndGet();
+        return snapshot;
+    }
+
+    // 조회 조건마다 달라지는 응답용. 캐시에 남기지 않는다
+    public SerializedSnapshot serialize(Object value) {
+        uncached.incrementAndGet();
+        return SerializedSnapshot.of(objectMapper, value);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("resources", entries.size());
+        stats.put("serializations", serializations.get());
+        stats.put("reuses", reuses.get());
+        stats.put("uncached", uncached.get());
+        return stats;
+    }
+
+    private static class Entry {
+        private final Object source;
+        private final SerializedSnapshot snapshot;
+
+        Entry(Object source, SerializedSnapshot snapshot) {
+            this.source = source;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.foririon.project.service.cache;
+
+import com.foririon.project.vo.StreamScheduleVO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예정 시작 시간 순으로 정렬된 일정의 불변 인덱스.
+ * 범위 조회는 이진 탐색으로 시작 위치를 찾으므로 누적된 일정 수와 무관하게 결과 크기만큼만 비용이 든다.
+ */
+public final class ScheduleIndex {
+
+    private final List<StreamScheduleVO> schedules;
+    private final long[] startTimes;
+    private final long coveredFrom;
+    private final String version;
+
+    // schedules는 scheduledStartTime 오름차순이어야 한다 (쿼리에서 정렬)
+    public ScheduleIndex(List<StreamScheduleVO> schedules, long coveredFrom, String version) {
+        this.schedules = Collections.unmodifiableList(new ArrayList<>(schedules));
+        this.startTimes = new long[schedules.size()];
+        for (int i = 0; i < startTimes.length; i++) {
+            startTimes[i] = schedules.get(i).getScheduledStartTime().getTime();
+        }
+        this.coveredFrom = coveredFrom;
+        this.version = version;
+    }
+
+    // [from, to) 구간에서 최대 limit개. to가 0 이하이면 끝까지.
+    public List<StreamScheduleVO> range(long from, long to, int limit) {
+        int start = lowerBound(from);
+        int end = to > 0 ? lowerBound(to) : startTimes.length;
+        end = Math.min(end, start + limit);
+        if (start >= end) {
+            return Collections.emptyList();
+        }
+        return schedules.subList(start, end);
+    }
+
+    // 인덱스가 from 이후 구간을 모두 담고 있는지
+    public boolean covers(long from) {
+        return from >= coveredFrom;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public long getCoveredFrom() {
+        return coveredFrom;
+    }
+
+    public int size() {
+        return startTimes.length;
+    }
+
+    private int lowerBound(long time) {
+        int index = Arrays.binarySearch(startTimes, time);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // 같은 시각이 여러 개면 가장 앞쪽으로
+        while (index > 0 && startTimes[index - 1] == time) {
+            index--;
+        }
+        return index;
+    }
+}
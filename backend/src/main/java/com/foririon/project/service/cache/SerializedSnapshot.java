@@ -0,0 +1,95 @@
+package com.foririon.project.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 한 번 직렬화한 JSON 응답 본문과 gzip 본문, 내용 기반 강한 ETag.
+ * ETag는 JSON 바이트의 해시라서 노드/재시작과 무관하게 같은 내용이면 같은 값이 된다.
+ */
+public final class SerializedSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private SerializedSnapshot(byte[] json, byte[] gzip, String tag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + tag + "\"";
+        this.gzipEtag = "\"" + tag + "-gzip\"";
+    }
+
+    public static SerializedSnapshot of(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new SerializedSnapshot(json, gzip(json), hash(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getGzipEtag() {
+        return gzipEtag;
+    }
+
+    // If-None-Match 값과 비교 (약한 비교: W/ 접두어 무시, 두 표현의 ETag 모두 인정)
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            StringBuilder hex = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.foririon.project.service.chzzk;
+
+import com.foririon.project.mapper.ChannelMapper;
+import com.foririon.project.vo.ChannelVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모니터링 대상 채널 목록.
+ * channels 테이블을 주기적으로 다시 읽고, chzzk.channel.id 기본 채널은 DB 상태와 무관하게 항상 포함한다.
+ */
+@Component
+public class ChannelRegistry {
+
+    @Autowired
+    private ChannelMapper channelMapper;
+
+    @Value("${chzzk.channel.id}")
+    private String defaultChannelId;
+
+    private volatile Map<String, String> channelNames;
+
+    public String getDefaultChannelId() {
+        return defaultChannelId;
+    }
+
+    public Set<String> getChannelIds() {
+        return channels().keySet();
+    }
+
+    public String getChannelName(String channelId) {
+        return channels().get(channelId);
+    }
+
+    public boolean isRegistered(String channelId) {
+        return channelId != null && getChannelIds().contains(channelId);
+    }
+
+    // 파라미터가 없으면 기본 채널
+    public String resolve(String channelId) {
+        return (channelId == null || channelId.isEmpty()) ? defaultChannelId : channelId;
+    }
+
+    // 기본 채널은 기존 토픽(live_start 등)을 그대로 쓰고, 나머지 채널은 채널 ID를 붙인 토픽을 쓴다
+    public String topicFor(String baseTopic, String channelId) {
+        if (channelId == null || channelId.equals(defaultChannelId)) {
+            return baseTopic;
+        }
+        return baseTopic + "_" + channelId;
+    }
+
+    @Scheduled(fixedDelayString = "${chzzk.channels.reload-ms:60000}")
+    public void reload() {
+        Map<String, String> loaded = new LinkedHashMap<>();
+        loaded.put(defaultChannelId, null);
+        try {
+            for (ChannelVO channel : channelMapper.findActiveChannels()) {
+                loaded.put(channel.getChannelId(), channel.getChannelName());
+            }
+        } catch (Exception e) {
+            // DB 오류 시 기존 목록 유지
+            if (channelNames != null) {
+                return;
+            }
+        }
+        channelNames = Collections.unmodifiableMap(loaded);
+    }
+
+    private Map<String, String> channels() {
+        Map<String, String> current = channelNames;
+        if (current == null) {
+            reload();
+            current = channelNames;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,326 @@
+package com.foririon.project.service.chzzk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.vo.ChzzkApiResponseVO;
+import com.foririon.project.vo.LiveStatusContentVO;
+import com.foririon.project.vo.ReplayContentVO;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 치지직 API 공용 클라이언트.
+ * keep-alive 커넥션 풀, 엔드포인트별 connect/read/전체 제한 시간, gzip 응답 해제, 공통 헤더를 한 곳에서 처리한다.
+ * 엔드포인트마다 서킷 브레이커와 동시 호출 한도를 두어, 치지직이 느리거나 오류를 낼 때는 기다리지 않고
+ * ChzzkUnavailableException으로 바로 실패한다 (호출자는 마지막 정상 값을 유지).
+ */
+@Component
+public class ChzzkClient {
+
+    public enum Endpoint {
+        LIVE_STATUS("/polling/v2/channels/%s/live-status"),
+        LIVE_DETAIL("/service/v2/channels/%s/live-detail"),
+        VIDEOS("/service/v1/channels/%s/videos?sortType=LATEST&pagingType=PAGE&page=%d&size=%d");
+
+        private final String pathTemplate;
+
+        Endpoint(String pathTemplate) {
+            this.pathTemplate = pathTemplate;
+        }
+    }
+
+    private static final String USER_AGENT = "Mozilla/5.0";
+    private static final long MAX_KEEP_ALIVE_MILLIS = 30000;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Value("${chzzk.api.base-url:https://api.chzzk.naver.com}")
+    private String baseUrl;
+
+    @Value("${chzzk.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${chzzk.http.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${chzzk.http.pool-timeout-ms:1000}")
+    private int poolTimeoutMillis;
+
+    @Value("${chzzk.http.live-status.read-timeout-ms:3000}")
+    private int liveStatusReadTimeoutMillis;
+
+    @Value("${chzzk.http.live-status.total-timeout-ms:5000}")
+    private long liveStatusTotalTimeoutMillis;
+
+    @Value("${chzzk.http.live-detail.read-timeout-ms:3000}")
+    private int liveDetailReadTimeoutMillis;
+
+    @Value("${chzzk.http.live-detail.total-timeout-ms:5000}")
+    private long liveDetailTotalTimeoutMillis;
+
+    @Value("${chzzk.http.videos.read-timeout-ms:5000}")
+    private int videosReadTimeoutMillis;
+
+    @Value("${chzzk.http.videos.total-timeout-ms:8000}")
+    private long videosTotalTimeoutMillis;
+
+    // 서킷 브레이커 (엔드포인트별로 같은 설정)
+    @Value("${chzzk.breaker.window-size:20}")
+    private int breakerWindowSize;
+
+    @Value("${chzzk.breaker.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${chzzk.breaker.failure-rate:0.5}")
+    private double breakerFailureRate;
+
+    @Value("${chzzk.breaker.slow-call-rate:0.8}")
+    private double breakerSlowCallRate;
+
+    @Value("${chzzk.breaker.slow-call-ms:3000}")
+    private long breakerSlowCallMillis;
+
+    @Value("${chzzk.breaker.open-ms:30000}")
+    private long breakerOpenMillis;
+
+    @Value("${chzzk.breaker.half-open-calls:3}")
+    private int breakerHalfOpenCalls;
+
+    // 엔드포인트별 동시 호출 한도 (넘으면 대기하지 않고 거절)
+    @Value("${chzzk.bulkhead.max-concurrent:8}")
+    private int bulkheadMaxConcurrent;
+
+    // 쓰는 필드만 토큰 단위로 읽는다 (나머지 하위 트리는 건너뜀)
+    private final ChzzkPayloadDecoder decoder = new ChzzkPayloadDecoder();
+
+    // read timeout은 패킷 사이 간격만 제한하므로 전체 응답 시간은 별도로 abort 처리
+    private final ScheduledExecutorService deadlineTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "chzzk-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Endpoint, CircuitBreaker> breakers = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Semaphore> bulkheads = new EnumMap<>(Endpoint.class);
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            breakers.put(endpoint, new CircuitBreaker(breakerWindowSize, breakerMinimumCalls, breakerFailureRate,
+                    breakerSlowCallRate, TimeUnit.MILLISECONDS.toNanos(breakerSlowCallMillis), breakerOpenMillis,
+                    breakerHalfOpenCalls));
+            bulkheads.put(endpoint, new Semaphore(bulkheadMaxConcurrent));
+        }
+        metricsRegistry.register(scrape -> {
+            for (Endpoint endpoint : Endpoint.values()) {
+                String label = endpoint.name().toLowerCase();
+                CircuitBreaker breaker = breakers.get(endpoint);
+                scrape.gauge("chzzk_circuit_state", "Circuit breaker state (0 closed, 1 half-open, 2 open)",
+                        stateValue(breaker.getState()), "endpoint", label);
+                scrape.counter("chzzk_circuit_opens_total", "Times the circuit breaker opened", breaker.getOpenCount(),
+                        "endpoint", label);
+                scrape.gauge("chzzk_in_flight", "Chzzk calls in progress",
+                        bulkheadMaxConcurrent - bulkheads.get(endpoint).availablePermits(), "endpoint", label);
+            }
+        });
+
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? Math.min(keepAlive, MAX_KEEP_ALIVE_MILLIS) : MAX_KEEP_ALIVE_MILLIS;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(MAX_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS)
+                .setDefaultHeaders(Arrays.asList(
+                        new BasicHeader(HttpHeaders.USER_AGENT, USER_AGENT),
+                        new BasicHeader(HttpHeaders.ACCEPT, "application/json")))
+                .disableCookieManagement()
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        deadlineTimer.shutdownNow();
+        httpClient.close();
+    }
+
+    public ChzzkApiResponseVO<LiveStatusContentVO> getLiveStatus(String channelId) throws IOException {
+        return get(Endpoint.LIVE_STATUS, decoder::readLiveStatus, channelId);
+    }
+
+    public ChzzkApiResponseVO<LiveStatusContentVO> getLiveDetail(String channelId) throws IOException {
+        return get(Endpoint.LIVE_DETAIL, decoder::readLiveStatus, channelId);
+    }
+
+    // 최신순 다시보기 목록의 page번째 페이지 (0부터)
+    public ChzzkApiResponseVO<ReplayContentVO> getVideos(String channelId, int page, int size) throws IOException {
+        return get(Endpoint.VIDEOS, decoder::readVideos, channelId, page, size);
+    }
+
+    // 응답 본문 디코딩 (벤치마크에서 기록된 응답으로 직접 호출)
+    public ChzzkApiResponseVO<LiveStatusContentVO> readLiveStatus(InputStream body) throws IOException {
+        return decoder.readLiveStatus(body);
+    }
+
+    public ChzzkApiResponseVO<ReplayContentVO> readVideos(InputStream body) throws IOException {
+        return decoder.readVideos(body);
+    }
+
+    // 동시 호출 한도 -> 서킷 브레이커 순서로 확인 (브레이커의 시험 호출 자리를 한도 초과로 잃지 않도록)
+    private <T> T get(Endpoint endpoint, BodyReader<T> reader, Object... pathArgs) throws IOException {
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        if (!bulkhead.tryAcquire()) {
+            throw rejected(endpoint, "bulkhead_full");
+        }
+        try {
+            if (!breakers.get(endpoint).tryAcquire()) {
+                throw rejected(endpoint, "circuit_open");
+            }
+            return execute(endpoint, reader, pathArgs);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private ChzzkUnavailableException rejected(Endpoint endpoint, String reason) {
+        metricsRegistry.counter("chzzk_rejected_total", "Chzzk calls rejected without reaching the API",
+                "endpoint", endpoint.name().toLowerCase(), "reason", reason).increment();
+        return new ChzzkUnavailableException("Chzzk " + endpoint + " unavailable (" + reason + ")");
+    }
+
+    private <T> T execute(Endpoint endpoint, BodyReader<T> reader, Object... pathArgs) throws IOException {
+        HttpGet request = new HttpGet(baseUrl + String.format(endpoint.pathTemplate, pathArgs));
+        request.setConfig(RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(poolTimeoutMillis)
+                .setSocketTimeout(readTimeoutMillis(endpoint))
+                .build());
+
+        ScheduledFuture<?> deadline = deadlineTimer.schedule(request::abort, totalTimeoutMillis(endpoint), TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        String outcome = "io_error";
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            if (statusCode < 200 || statusCode >= 300 || entity == null) {
+                outcome = statusCode == 429 ? "http_429"
+                        : statusCode >= 500 ? "http_5xx" : statusCode >= 400 ? "http_4xx" : "http_other";
+                throw new IOException("Chzzk " + endpoint + " returned HTTP " + statusCode);
+            }
+            try (InputStream body = entity.getContent()) {
+                T result = reader.read(body);
+                outcome = "ok";
+                return result;
+            }
+        } catch (JsonProcessingException e) {
+            outcome = "parse_error";
+            throw e;
+        } catch (SocketTimeoutException | ConnectTimeoutException e) {
+            // 커넥션 풀 대기 초과(ConnectionPoolTimeoutException)도 포함
+            outcome = "timeout";
+            throw e;
+        } catch (IOException e) {
+            // 전체 제한 시간 초과로 abort된 요청도 timeout으로 집계
+            if (deadline.isDone() && !deadline.isCancelled()) {
+                outcome = "timeout";
+            }
+            throw e;
+        } finally {
+            deadline.cancel(false);
+            long elapsed = System.nanoTime() - start;
+            // 없는 채널 같은 4xx는 치지직 장애가 아니므로 실패로 세지 않는다 (429는 실패)
+            breakers.get(endpoint).record(elapsed, !"ok".equals(outcome) && !"http_4xx".equals(outcome));
+            metricsRegistry.timer("chzzk_request_duration_seconds", "Chzzk API call time by endpoint and outcome",
+                    "endpoint", endpoint.name().toLowerCase(), "outcome", outcome).record(elapsed);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            CircuitBreaker breaker = breakers.get(endpoint);
+            Map<String, Object> endpointStats = new LinkedHashMap<>();
+            endpointStats.put("state", breaker.getState());
+            endpointStats.put("failureRate", breaker.getFailureRate());
+            endpointStats.put("slowCallRate", breaker.getSlowCallRate());
+            endpointStats.put("opens", breaker.getOpenCount());
+            endpointStats.put("inFlight", bulkheadMaxConcurrent - bulkheads.get(endpoint).availablePermits());
+            stats.put(endpoint.name().toLowerCase(), endpointStats);
+        }
+        return stats;
+    }
+
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private static int stateValue(CircuitBreaker.State state) {
+        switch (state) {
+            case HALF_OPEN:
+                return 1;
+            case OPEN:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+
+    private int readTimeoutMillis(Endpoint endpoint) {
+        switch (endpoint) {
+            case LIVE_STATUS:
+                return liveStatusReadTimeoutMillis;
+            case LIVE_DETAIL:
+                return liveDetailReadTimeoutMillis;
+            default:
+                return videosReadTimeoutMillis;
+        }
+    }
+
+    private long totalTimeoutMillis(Endpoint endpoint) {
+        switch (endpoint) {
+            case LIVE_STATUS:
+                return liveStatusTotalTimeoutMillis;
+            case LIVE_DETAIL:
+                return liveDetailTotalTimeoutMillis;
+            default:
+                return videosTotalTimeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.foririon.project.service.chzzk;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.foririon.project.vo.ChannelVO;
+import com.foririon.project.vo.ChzzkApiResponseVO;
+import com.foririon.project.vo.LiveStatusContentVO;
+import com.foririon.project.vo.ReplayContentVO;
+import com.foririon.project.vo.ReplayVO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 치지직 응답을 토큰 단위로 읽는 디코더.
+ * 쓰는 필드만 객체로 만들고 나머지 하위 트리는 문자열을 풀지 않고 건너뛴다.
+ * 파서 버퍼는 JsonFactory의 스레드별 BufferRecycler를 재사용하고,
+ * 목록 안에서 반복되는 값(채널 정보, 방송 상태)은 앞의 문자열을 다시 쓴다.
+ *
+ * 결과는 ObjectMapper 바인딩과 같다 (LiveStatusContentVO.channelId처럼 읽기 전용인 필드는 채우지 않음).
+ */
+public final class ChzzkPayloadDecoder {
+
+    private static final String OPEN = "OPEN";
+    private static final String CLOSE = "CLOSE";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    // live-status / live-detail 공용 (live-detail은 liveImageUrl만 쓰지만 같은 필드를 읽는다)
+    public ChzzkApiResponseVO<LiveStatusContentVO> readLiveStatus(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            ChzzkApiResponseVO<LiveStatusContentVO> response = new ChzzkApiResponseVO<>();
+            expectRoot(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("content".equals(field) && token == JsonToken.START_OBJECT) {
+                    response.setContent(readLiveContent(parser));
+                } else {
+                    skipValue(parser);
+                }
+            }
+            return response;
+        }
+    }
+
+    public ChzzkApiResponseVO<ReplayContentVO> readVideos(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            ChzzkApiResponseVO<ReplayContentVO> response = new ChzzkApiResponseVO<>();
+            expectRoot(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("content".equals(field) && token == JsonToken.START_OBJECT) {
+                    response.setContent(readVideosContent(parser));
+                } else {
+                    skipValue(parser);
+                }
+            }
+            return response;
+        }
+    }
+
+    private static LiveStatusContentVO readLiveContent(JsonParser parser) throws IOException {
+        LiveStatusContentVO content = new LiveStatusContentVO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "liveId":
+                    content.setLiveId(parser.getValueAsString());
+                    break;
+                case "liveTitle":
+                    content.setLiveTitle(parser.getValueAsString());
+                    break;
+                case "status":
+                    content.setStatus(status(parser));
+                    break;
+                case "concurrentUserCount":
+                    content.setConcurrentUserCount(parser.getValueAsInt());
+                    break;
+                case "openDate":
+                    content.setOpenDate(parser.getValueAsString());
+                    break;
+                case "liveImageUrl":
+                    content.setLiveImageUrl(parser.getValueAsString());
+                    break;
+                default:
+                    skipValue(parser);
+            }
+        }
+        return content;
+    }
+
+    private static ReplayContentVO readVideosContent(JsonParser parser) throws IOException {
+        ReplayContentVO content = new ReplayContentVO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "page":
+                    content.setPage(parser.getValueAsInt());
+                    break;
+                case "size":
+                    content.setSize(parser.getValueAsInt());
+                    break;
+                case "totalCount":
+                    content.setTotalCount(parser.getValueAsInt());
+                    break;
+                case "totalPages":
+                    content.setTotalPages(parser.getValueAsInt());
+                    break;
+                case "data":
+                    if (token == JsonToken.START_ARRAY) {
+                        // size가 data보다 먼저 오면 목록 크기를 미리 잡는다
+                        content.setData(readReplays(parser, content.getSize()));
+                    } else {
+                        skipValue(parser);
+                    }
+                    break;
+                default:
+                    skipValue(parser);
+            }
+        }
+        return content;
+    }
+
+    private static List<ReplayVO> readReplays(JsonParser parser, int expectedSize) throws IOException {
+        List<ReplayVO> replays = new ArrayList<>(expectedSize > 0 && expectedSize <= 100 ? expectedSize : 10);
+        ChannelVO lastChannel = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                ReplayVO replay = readReplay(parser, lastChannel);
+                if (replay.getChannel() != null) {
+                    lastChannel = replay.getChannel();
+                }
+                replays.add(replay);
+            } else if (token == JsonToken.VALUE_NULL) {
+                // 빈 항목은 건너뜀 (동기화가 videoNo를 꺼낼 수 없음)
+                continue;
+            } else {
+                throw new JsonParseException(parser, "Unexpected " + token + " in videos data");
+            }
+        }
+        return replays;
+    }
+
+    private static ReplayVO readReplay(JsonParser parser, ChannelVO lastChannel) throws IOException {
+        ReplayVO replay = new ReplayVO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "videoNo":
+                    replay.setVideoNo(token == JsonToken.VALUE_NULL ? null : parser.getValueAsInt());
+                    break;
+                case "videoId":
+                    replay.setVideoId(parser.getValueAsString());
+                    break;
+                case "videoTitle":
+                    replay.setVideoTitle(parser.getValueAsString());
+                    break;
+                case "thumbnailImageUrl":
+                    replay.setThumbnailImageUrl(parser.getValueAsString());
+                    break;
+                case "readCount":
+                    replay.setReadCount(parser.getValueAsInt());
+                    break;
+                case "publishDate":
+                    replay.setPublishDateAt(parser.getValueAsString());
+                    break;
+                case "channel":
+                    if (token == JsonToken.START_OBJECT) {
+                        replay.setChannel(readChannel(parser, lastChannel));
+                    } else {
+                        skipValue(parser);
+                    }
+                    break;
+                default:
+                    skipValue(parser);
+            }
+        }
+        return replay;
+    }
+
+    // 한 페이지의 영상은 대부분 같은 채널이므로 앞 영상과 같은 값이면 문자열을 새로 만들지 않는다
+    private static ChannelVO readChannel(JsonParser parser, ChannelVO last) throws IOException {
+        ChannelVO channel = new ChannelVO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "channelId":
+                    channel.setChannelId(reuse(parser, last != null ? last.getChannelId() : null));
+                    break;
+                case "channelName":
+                    channel.setChannelName(reuse(parser, last != null ? last.getChannelName() : null));
+                    break;
+                case "channelImageUrl":
+                    channel.setChannelImageUrl(reuse(parser, last != null ? last.getChannelImageUrl() : null));
+                    break;
+                default:
+                    skipValue(parser);
+            }
+        }
+        return channel;
+    }
+
+    private static String status(JsonParser parser) throws IOException {
+        if (matches(parser, OPEN)) {
+            return OPEN;
+        }
+        return matches(parser, CLOSE) ? CLOSE : parser.getValueAsString();
+    }
+
+    // 현재 문자열 토큰이 previous와 같으면 previous를 그대로 돌려준다
+    private static String reuse(JsonParser parser, String previous) throws IOException {
+        return matches(parser, previous) ? previous : parser.getValueAsString();
+    }
+
+    // 파서 내부 버퍼와 직접 비교 (String을 만들지 않음)
+    private static boolean matches(JsonParser parser, String value) throws IOException {
+        if (value == null || parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != value.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < value.length(); i++) {
+            if (chars[offset + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void expectRoot(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but got " + token);
+        }
+    }
+
+    // 쓰지 않는 값. 객체/배열은 하위 트리째 건너뛴다
+    private static void skipValue(JsonParser parser) throws IOException {
+        parser.skipChildren();
+    }
+}
@@ -0,0 +1,15 @@
+package com.foririon.project.service.chzzk;
+
+import java.io.IOException;
+
+/**
+ * 서킷 브레이커가 열려 있거나 동시 호출 한도가 찼을 때 치지직을 호출하지 않고 바로 던지는 예외.
+ */
+public class ChzzkUnavailableException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ChzzkUnavailableException(String message) {
+        super(message);
+    }
+}
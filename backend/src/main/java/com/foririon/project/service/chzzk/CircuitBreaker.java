@@ -0,0 +1,132 @@
+package com.foririon.project.service.chzzk;
+
+/**
+ * 최근 호출 windowSize개의 실패율/느린 호출 비율로 여닫는 서킷 브레이커.
+ * 열리면 openMillis 동안 호출을 바로 거절하고, 이후 halfOpenCalls개의 시험 호출이 모두 정상이면 다시 닫는다.
+ * 시험 호출 중 하나라도 실패하거나 느리면 다시 연다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long openCount;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, double slowCallRateThreshold,
+                          long slowCallNanos, long openMillis, int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failures = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    // 호출해도 되면 true (HALF_OPEN이면 시험 호출 한 자리를 차지)
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void record(long elapsedNanos, boolean failed) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 열리기 전에 시작한 호출의 결과는 무시
+            return;
+        }
+
+        if (recorded == windowSize) {
+            failureCount -= failures[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        if (recorded >= minimumCalls
+                && ((double) failureCount / recorded >= failureRateThreshold
+                    || (double) slowCount / recorded >= slowCallRateThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        openCount++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    // OPEN 대기 시간이 지나도 다음 호출 전까지는 OPEN으로 보인다
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0.0 : (double) failureCount / recorded;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0.0 : (double) slowCount / recorded;
+    }
+
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+}
@@ -0,0 +1,181 @@
+package com.foririon.project.service.cluster;
+
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.mapper.ClusterLeaseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 노드 중 치지직 폴링/알림 전송을 맡을 리더 하나를 DB 임대(cluster_leases)로 고른다.
+ * 리더는 renew-ms마다 임대를 ttl-ms만큼 연장하고, 연장에 실패한 채 ttl-ms가 지나면 스스로 물러난다.
+ * 리더가 죽으면 임대가 만료된 뒤 다음 연장 주기에 다른 노드가 이어받는다 (ttl-ms + renew-ms 이내).
+ * cluster.enabled=false(단일 노드)면 DB를 쓰지 않고 항상 리더다.
+ * 연장은 공용 taskScheduler가 아닌 전용 스레드에서 돌려, 오래 걸리는 다른 예약 작업 때문에 임대를 놓치지 않게 한다.
+ */
+@Component
+public class LeaderElection {
+
+    private static final String POLLER_LEASE = "chzzk-poller";
+
+    @Autowired
+    private ClusterLeaseMapper clusterLeaseMapper;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    // 비우면 프로세스 이름(pid@host)에 임의 접미사를 붙여 만든다
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${cluster.lease.ttl-ms:5000}")
+    private long leaseTtlMillis;
+
+    @Value("${cluster.lease.renew-ms:1000}")
+    private long renewMillis;
+
+    private ScheduledExecutorService renewExecutor;
+
+    private String nodeId;
+
+    private volatile boolean leader;
+    private volatile boolean seeded;
+    // 연장 요청을 보내기 직전 시각 + TTL (로컬 단조 시계라 DB 쪽 만료보다 항상 먼저 끝난다)
+    private volatile long leaseValidUntilNanos;
+    private volatile long leaderSince;
+
+    private final AtomicLong renewals = new AtomicLong();
+    private final AtomicLong renewFailures = new AtomicLong();
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong losses = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        nodeId = configuredNodeId != null && !configuredNodeId.isEmpty()
+                ? configuredNodeId
+                : ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        metricsRegistry.register(scrape -> {
+            scrape.gauge("cluster_leader", "1 if this node holds the poller lease", isLeader() ? 1 : 0);
+            String renewHelp = "Lease renew attempts by outcome (lost = was leader but another node now holds the lease)";
+            scrape.counter("cluster_lease_renewals_total", renewHelp, renewals.get(), "outcome", "held");
+            scrape.counter("cluster_lease_renewals_total", renewHelp, losses.get(), "outcome", "lost");
+            scrape.counter("cluster_lease_renewals_total", renewHelp, renewFailures.get(), "outcome", "error");
+            scrape.counter("cluster_leader_changes_total", "Times this node became leader", acquisitions.get());
+        });
+
+        // 첫 폴링 틱 전에 리더를 정해 둔다
+        renew();
+
+        if (enabled) {
+            renewExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "cluster-lease-renew");
+                thread.setDaemon(true);
+                return thread;
+            });
+            renewExecutor.scheduleWithFixedDelay(this::renew, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void renew() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!seeded) {
+                clusterLeaseMapper.insertIfAbsent(POLLER_LEASE);
+                seeded = true;
+            }
+            if (clusterLeaseMapper.tryAcquire(POLLER_LEASE, nodeId, leaseTtlMillis) == 1) {
+                renewals.incrementAndGet();
+                leaseValidUntilNanos = start + TimeUnit.MILLISECONDS.toNanos(leaseTtlMillis);
+                if (!leader) {
+                    leader = true;
+                    leaderSince = System.currentTimeMillis();
+                    acquisitions.incrementAndGet();
+                }
+            } else if (leader) {
+                leader = false;
+                losses.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // DB 오류: 남은 임대 기간 동안은 리더를 유지하고 (isLeader가 만료 확인) 다음 주기에 다시 시도
+            renewFailures.incrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (renewExecutor != null) {
+            // 진행 중인 연장이 끝난 뒤에 반납해야 반납 직후 임대를 다시 잡지 않는다
+            renewExecutor.shutdownNow();
+            try {
+                renewExecutor.awaitTermination(leaseTtlMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!enabled || !leader) {
+            return;
+        }
+        leader = false;
+        try {
+            clusterLeaseMapper.release(POLLER_LEASE, nodeId);
+        } catch (Exception e) {
+            // TTL이 지나면 자연히 만료된다
+        }
+    }
+
+    public boolean isLeader() {
+        if (!enabled) {
+            return true;
+        }
+        return leader && System.nanoTime() - leaseValidUntilNanos < 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("nodeId", nodeId);
+        stats.put("leader", isLeader());
+        if (enabled) {
+            String holder;
+            try {
+                holder = clusterLeaseMapper.findHolder(POLLER_LEASE);
+            } catch (Exception e) {
+                holder = null;
+            }
+            stats.put("currentLeader", holder);
+            stats.put("leaderSince", isLeader() ? leaderSince : 0);
+            stats.put("leaseTtlMillis", leaseTtlMillis);
+            stats.put("renewals", renewals.get());
+            stats.put("renewFailures", renewFailures.get());
+            stats.put("acquisitions", acquisitions.get());
+            stats.put("losses", losses.get());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,157 @@
+package com.foririon.project.service.dispatch;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 경로에서 FCM 전송을 분리하는 인메모리 전송 큐.
+ * 호출자는 submit 후 바로 반환되고, 워커 스레드가 AIMD 한도 안에서 전송한다.
+ * 큐가 가득 차면 기다리지 않고 버리며 dropped 카운터를 올린다.
+ * 전송 결과가 필요한 호출자(아웃박스 릴레이)는 반환된 future로 성공/실패를 확인한다.
+ */
+@Component
+public class NotificationDispatcher {
+
+    @Value("${fcm.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${fcm.dispatch.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${fcm.dispatch.initial-concurrency:4}")
+    private int initialConcurrency;
+
+    @Value("${fcm.dispatch.latency-threshold-ms:1000}")
+    private long latencyThresholdMillis;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    private BlockingQueue<QueuedTask> queue;
+    private AdaptiveConcurrencyLimit limit;
+    private final List<Thread> workers = new ArrayList<>();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        limit = new AdaptiveConcurrencyLimit(initialConcurrency, 1, maxConcurrency,
+                TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis), 0.5);
+
+        for (int i = 0; i < maxConcurrency; i++) {
+            Thread worker = new Thread(this::runWorker, "fcm-dispatch-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    // 단일 메시지 전송: 지연 시간과 오류 모두 한도 조절에 반영
+    public CompletableFuture<Void> submit(NotificationTask task) {
+        return enqueue(new QueuedTask(task, true));
+    }
+
+    // 멀티캐스트 팬아웃처럼 원래 오래 걸리는 작업: 오류만 한도 조절에 반영
+    public CompletableFuture<Void> submitBulk(NotificationTask task) {
+        return enqueue(new QueuedTask(task, false));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("sent", sent.get());
+        stats.put("failed", failed.get());
+        stats.put("dropped", dropped.get());
+        stats.put("throttled", throttled.get());
+        stats.put("queued", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("concurrencyLimit", limit.getLimit());
+        stats.put("inFlight", limit.getInFlight());
+        return stats;
+    }
+
+    private CompletableFuture<Void> enqueue(QueuedTask task) {
+        if (!queue.offer(task)) {
+            dropped.incrementAndGet();
+            task.result.completeExceptionally(new RejectedExecutionException("notification queue is full"));
+        } else {
+            submitted.incrementAndGet();
+        }
+        return task.result;
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            QueuedTask task;
+            try {
+                task = queue.take();
+                limit.acquire();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean congested = false;
+            try {
+                task.task.send();
+                sent.incrementAndGet();
+                task.result.complete(null);
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                task.result.completeExceptionally(e);
+                congested = isCongestion(e);
+                if (congested) {
+                    throttled.incrementAndGet();
+                }
+            } finally {
+                long latency = task.latencySensitive ? System.nanoTime() - start : 0;
+                limit.release(latency, congested);
+            }
+        }
+    }
+
+    private static boolean isCongestion(Exception e) {
+        if (!(e instanceof FirebaseMessagingException)) {
+            return false;
+        }
+        MessagingErrorCode code = ((FirebaseMessagingException) e).getMessagingErrorCode();
+        return code == MessagingErrorCode.QUOTA_EXCEEDED
+                || code == MessagingErrorCode.UNAVAILABLE
+                || code == MessagingErrorCode.INTERNAL;
+    }
+
+    private static class QueuedTask {
+        private final NotificationTask task;
+        private final boolean latencySensitive;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        QueuedTask(NotificationTask task, boolean latencySensitive) {
+            this.task = task;
+            this.latencySensitive = latencySensitive;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.foririon.project.service.dispatch;
+
+@FunctionalInterface
+public interface NotificationTask {
+    void send() throws Exception;
+}
@@ -0,0 +1,40 @@
+package com.foririon.project.service.image;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 디스크 캐시에서 읽은 이미지. data는 매핑된 파일 버퍼의 읽기 전용 뷰라 요청마다 힙에 복사하지 않는다.
+ */
+public class CachedImage {
+
+    private final ByteBuffer data;
+    private final String contentType;
+    private final long storedAt;
+
+    CachedImage(ByteBuffer data, String contentType, long storedAt) {
+        this.data = data;
+        this.contentType = contentType;
+        this.storedAt = storedAt;
+    }
+
+    public ByteBuffer getData() {
+        return data;
+    }
+
+    public int getLength() {
+        return data.remaining();
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getStoredAt() {
+        return storedAt;
+    }
+
+    // 같은 키를 다시 받아 저장하면 바뀐다
+    public String getETag() {
+        return "\"" + Long.toHexString(storedAt) + "-" + Integer.toHexString(data.remaining()) + "\"";
+    }
+}
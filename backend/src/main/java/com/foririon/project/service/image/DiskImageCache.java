@@ -0,0 +1,234 @@
+package com.foririon.project.service.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 한도가 있는 디스크 이미지 캐시.
+ * 파일 이름은 "키의 SHA-256-저장 시각"이고, 전체 크기가 maxBytes를 넘으면 가장 오래 안 읽힌 파일부터 지운다.
+ * 읽기는 파일을 한 번 메모리 매핑해 두고 요청마다 버퍼 뷰만 만든다.
+ * 같은 키를 다시 저장하면 새 파일을 만들고 이전 파일을 지우므로, 이미 읽고 있는 요청은 이전 매핑을 그대로 쓴다.
+ */
+public class DiskImageCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // 접근 순서 (앞쪽이 가장 오래 안 읽힌 항목)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DiskImageCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        loadExisting();
+    }
+
+    // 재시작 전 파일은 수정 시각 순으로 LRU에 다시 올린다 (같은 키가 둘이면 나중 것만 남김)
+    private void loadExisting() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_SUFFIX) || fileName.indexOf('-') < 0) {
+                    Files.deleteIfExists(file);
+                } else if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(DiskImageCache::lastModified));
+        synchronized (this) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                Entry entry = new Entry(file, Files.size(file), lastModified(file));
+                Entry previous = entries.put(fileName.substring(0, fileName.indexOf('-')), entry);
+                if (previous != null) {
+                    totalBytes -= previous.size;
+                    Files.deleteIfExists(previous.file);
+                }
+                totalBytes += entry.size;
+            }
+            evict(null);
+        }
+    }
+
+    public CachedImage get(String key) {
+        String name = hash(key);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(name);
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try {
+            MappedByteBuffer mapped = entry.map();
+            CachedImage image = new CachedImage(mapped.asReadOnlyBuffer(), ThumbnailImages.contentType(mapped), entry.storedAt);
+            hits.incrementAndGet();
+            return image;
+        } catch (IOException e) {
+            // 교체/제거와 겹쳤거나 밖에서 지워진 파일
+            remove(name, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    // 저장한 바이트를 그대로 감싸 돌려준다 (방금 받은 요청은 매핑 없이 응답)
+    public CachedImage put(String key, byte[] data) throws IOException {
+        String name = hash(key);
+        long storedAt = System.currentTimeMillis();
+        Path file = directory.resolve(name + "-" + storedAt + "-" + Thread.currentThread().getId());
+        Path temp = directory.resolve(file.getFileName() + TEMP_SUFFIX);
+        Files.write(temp, data);
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+
+        Entry entry = new Entry(file, data.length, storedAt);
+        Entry previous;
+        synchronized (this) {
+            previous = entries.put(name, entry);
+            if (previous != null) {
+                totalBytes -= previous.size;
+            }
+            totalBytes += entry.size;
+            evict(name);
+        }
+        if (previous != null) {
+            delete(previous.file);
+        }
+        stores.incrementAndGet();
+        ByteBuffer buffer = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        return new CachedImage(buffer, ThumbnailImages.contentType(buffer), storedAt);
+    }
+
+    // 방금 넣은 항목(keep)은 한도를 넘어도 남긴다
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> oldest = iterator.next();
+            if (oldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= oldest.getValue().size;
+            evictions.incrementAndGet();
+            delete(oldest.getValue().file);
+        }
+    }
+
+    // 매핑 중인 파일도 지울 수 있다 (매핑은 읽는 쪽이 놓을 때까지 유지)
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 다음 기동 때 다시 정리된다
+        }
+    }
+
+    private synchronized void remove(String name, Entry entry) {
+        if (entries.remove(name, entry)) {
+            totalBytes -= entry.size;
+        }
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getStores() {
+        return stores.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static class Entry {
+        private final Path file;
+        private final long size;
+        private final long storedAt;
+        private volatile MappedByteBuffer mapped;
+
+        Entry(Path file, long size, long storedAt) {
+            this.file = file;
+            this.size = size;
+            this.storedAt = storedAt;
+        }
+
+        // 처음 읽을 때 한 번 매핑 (경합하면 둘 다 매핑해도 결과는 같다)
+        MappedByteBuffer map() throws IOException {
+            MappedByteBuffer buffer = mapped;
+            if (buffer == null) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+                mapped = buffer;
+            }
+            return buffer;
+        }
+    }
+}
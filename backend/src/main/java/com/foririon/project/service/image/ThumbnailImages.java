@@ -0,0 +1,108 @@
+package com.foririon.project.service.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 썸네일 크기별 변환과 형식 판별.
+ */
+public final class ThumbnailImages {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private ThumbnailImages() {
+    }
+
+    /**
+     * 원본에서 모든 크기를 만든다. 원본이 목표보다 작거나 디코딩할 수 없는 형식(webp 등)이면 그 크기는 원본 바이트 그대로.
+     */
+    public static Map<ThumbnailSize, byte[]> variants(byte[] original) throws IOException {
+        Map<ThumbnailSize, byte[]> variants = new EnumMap<>(ThumbnailSize.class);
+        variants.put(ThumbnailSize.ORIGINAL, original);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (size == ThumbnailSize.ORIGINAL) {
+                continue;
+            }
+            if (image == null || image.getWidth() <= size.getWidth()) {
+                variants.put(size, original);
+            } else {
+                variants.put(size, jpeg(resize(image, size.getWidth())));
+            }
+        }
+        return variants;
+    }
+
+    // 절반씩 줄여 가며 보간 (한 번에 크게 줄이면 계단 현상), 투명 영역은 흰색
+    private static BufferedImage resize(BufferedImage image, int width) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) image.getHeight() * nextWidth / image.getWidth()));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // 앞 몇 바이트로 판별 (모르면 application/octet-stream)
+    public static String contentType(ByteBuffer data) {
+        int p = data.position();
+        int remaining = data.remaining();
+        if (remaining >= 3 && (data.get(p) & 0xff) == 0xff && (data.get(p + 1) & 0xff) == 0xd8 && (data.get(p + 2) & 0xff) == 0xff) {
+            return "image/jpeg";
+        }
+        if (remaining >= 8 && (data.get(p) & 0xff) == 0x89 && data.get(p + 1) == 'P' && data.get(p + 2) == 'N' && data.get(p + 3) == 'G') {
+            return "image/png";
+        }
+        if (remaining >= 6 && data.get(p) == 'G' && data.get(p + 1) == 'I' && data.get(p + 2) == 'F') {
+            return "image/gif";
+        }
+        if (remaining >= 12 && data.get(p) == 'R' && data.get(p + 1) == 'I' && data.get(p + 2) == 'F' && data.get(p + 3) == 'F'
+                && data.get(p + 8) == 'W' && data.get(p + 9) == 'E' && data.get(p + 10) == 'B' && data.get(p + 11) == 'P') {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
+}
@@ -0,0 +1,32 @@
+package com.foririon.project.service.image;
+
+/**
+ * 프록시가 미리 만들어 두는 썸네일 크기 (가로 픽셀, 원본보다 크면 원본 그대로).
+ */
+public enum ThumbnailSize {
+    SMALL(160),
+    MEDIUM(480),
+    ORIGINAL(0);
+
+    private final int width;
+
+    ThumbnailSize(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    // ?size= 파라미터 (없거나 모르는 값이면 ORIGINAL)
+    public static ThumbnailSize of(String name) {
+        if (name != null) {
+            for (ThumbnailSize size : values()) {
+                if (size.name().equalsIgnoreCase(name)) {
+                    return size;
+                }
+            }
+        }
+        return ORIGINAL;
+    }
+}
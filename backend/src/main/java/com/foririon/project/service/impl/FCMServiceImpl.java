@@ -1,70 +1,191 @@
 package com.foririon.project.service.impl;
 
+import com.foririon.project.mapper.NotificationMapper;
 import com.foririon.project.service.FCMService;
+import com.foririon.project.service.dispatch.NotificationDispatcher;
+import com.foririon.project.service.push.FcmMessages;
+import com.foririon.project.service.push.FcmSender;
+import com.foririon.project.vo.DeviceVO;
+import com.foririon.project.vo.FanoutResultVO;
 import com.google.firebase.messaging.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class FCMServiceImpl implements FCMService {
 
+    // FCM 멀티캐스트 한 번에 보낼 수 있는 최대 토큰 수
+    private static final int MULTICAST_BATCH_SIZE = 500;
+
+    @Autowired
+    private NotificationMapper notificationMapper;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private FcmSender fcmSender;
+
+    @Value("${fcm.fanout.parallelism:8}")
+    private int fanoutParallelism;
+
+    private ExecutorService fanoutExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        fanoutExecutor = Executors.newFixedThreadPool(fanoutParallelism, r -> {
+            Thread thread = new Thread(r, "fcm-fanout-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdownNow();
+    }
+
     @Override
     public void sendToTopic(String topic, String title, String body, String type) {
-        try {
-            // 데이터 페이로드 구성
-            Map<String, String> data = new HashMap<>();
-            data.put("type", type);
-            data.put("click_action", "FLUTTER_NOTIFICATION_CLICK");
-
-            // 알림 메시지 구성
-            Notification notification = Notification.builder()
-                    .setTitle(title)
-                    .setBody(body)
-                    .build();
-
-            // 메시지 구성
-            Message message = Message.builder()
-                    .setNotification(notification)
-                    .putAllData(data)
-                    .setTopic(topic)
-                    .build();
-
-            // 메시지 전송
-            FirebaseMessaging.getInstance().send(message);
+        Message message = FcmMessages.topic(topic, title, body, type);
 
-        } catch (Exception e) {
-            // Silent fail
-        }
+        // 전송 큐에 넣고 바로 반환 (실패/버림은 디스패처 카운터로 집계)
+        notificationDispatcher.submit(() -> fcmSender.send(message));
     }
 
     @Override
     public void sendToToken(String token, String title, String body, String type) {
-        try {
-            // 데이터 페이로드 구성
-            Map<String, String> data = new HashMap<>();
-            data.put("type", type);
-            data.put("click_action", "FLUTTER_NOTIFICATION_CLICK");
-
-            // 알림 메시지 구성
-            Notification notification = Notification.builder()
-                    .setTitle(title)
-                    .setBody(body)
-                    .build();
-
-            // 메시지 구성
-            Message message = Message.builder()
-                    .setNotification(notification)
-                    .putAllData(data)
-                    .setToken(token)
-                    .build();
-
-            // 메시지 전송
-            FirebaseMessaging.getInstance().send(message);
+        Message message = FcmMessages.token(token, title, body, type);
+
+        // 전송 큐에 넣고 바로 반환 (실패/버림은 디스패처 카운터로 집계)
+        notificationDispatcher.submit(() -> fcmSender.send(message));
+    }
+
+    @Override
+    public FanoutResultVO sendToAllDevices(String title, String body, String type) {
+        long start = System.currentTimeMillis();
+
+        // 배치마다 같은 알림/데이터 페이로드를 공유
+        Map<String, String> data = FcmMessages.data(type);
+        Notification notification = FcmMessages.notification(title, body);
 
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+        Queue<String> invalidTokens = new ConcurrentLinkedQueue<>();
+
+        // 동시에 전송 중인 배치 수를 제한 (조회는 그동안 다음 페이지를 미리 읽는다)
+        Semaphore inFlight = new Semaphore(fanoutParallelism);
+        int totalTokens = 0;
+        int batches = 0;
+        int afterId = 0;
+
+        while (true) {
+            List<DeviceVO> page = notificationMapper.findActiveTokensAfter(afterId, MULTICAST_BATCH_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+
+            List<String> tokens = new ArrayList<>(page.size());
+            for (DeviceVO device : page) {
+                tokens.add(device.getFcmToken());
+            }
+            totalTokens += tokens.size();
+            batches++;
+
+            MulticastMessage message = FcmMessages.multicast(tokens, notification, data);
+
+            inFlight.acquireUninterruptibly();
+            try {
+                fanoutExecutor.execute(() -> {
+                    try {
+                        sendBatch(message, tokens, success, failure, invalidTokens);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 이 배치는 실패로 집계하고 남은 배치는 보내지 않는다
+                inFlight.release();
+                failure.addAndGet(tokens.size());
+                break;
+            }
+
+            if (page.size() < MULTICAST_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 모든 배치가 끝날 때까지 대기
+        inFlight.acquireUninterruptibly(fanoutParallelism);
+        inFlight.release(fanoutParallelism);
+
+        int deactivated = deactivate(new ArrayList<>(invalidTokens));
+
+        FanoutResultVO result = new FanoutResultVO();
+        result.setTotalTokens(totalTokens);
+        result.setBatches(batches);
+        result.setSuccessCount(success.get());
+        result.setFailureCount(failure.get());
+        result.setDeactivatedCount(deactivated);
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private void sendBatch(MulticastMessage message, List<String> tokens,
+                           AtomicInteger success, AtomicInteger failure, Queue<String> invalidTokens) {
+        try {
+            BatchResponse response = fcmSender.sendEachForMulticast(message);
+            // 배치 전체가 INVALID_ARGUMENT면 토큰이 아니라 메시지 자체의 문제이므로 비활성화하지 않는다
+            boolean payloadAccepted = response.getSuccessCount() > 0;
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    success.incrementAndGet();
+                    continue;
+                }
+                failure.incrementAndGet();
+                if (isInvalidToken(sendResponse.getException(), payloadAccepted)) {
+                    invalidTokens.add(tokens.get(i));
+                }
+            }
         } catch (Exception e) {
-            // Silent fail
+            failure.addAndGet(tokens.size());
+        }
+    }
+
+    private static boolean isInvalidToken(FirebaseMessagingException e, boolean payloadAccepted) {
+        if (e == null) {
+            return false;
+        }
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        return code == MessagingErrorCode.UNREGISTERED
+                || code == MessagingErrorCode.SENDER_ID_MISMATCH
+                || (code == MessagingErrorCode.INVALID_ARGUMENT && payloadAccepted);
+    }
+
+    private int deactivate(List<String> tokens) {
+        int deactivated = 0;
+        for (int from = 0; from < tokens.size(); from += MULTICAST_BATCH_SIZE) {
+            List<String> chunk = tokens.subList(from, Math.min(from + MULTICAST_BATCH_SIZE, tokens.size()));
+            deactivated += notificationMapper.deactivateTokens(chunk);
         }
+        return deactivated;
     }
 }
@@ -0,0 +1,95 @@
+package com.foririon.project.service.impl;
+
+import com.foririon.project.service.HealthService;
+import com.foririon.project.service.StreamService;
+import com.foririon.project.service.chzzk.ChannelRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/health?deep=true 점검.
+ * 업스트림 장애도 DOWN으로 보고하므로 로드밸런서 생존 확인이 아니라 모니터링/알림용이다.
+ */
+@Service
+public class HealthServiceImpl implements HealthService {
+
+    private static final String UP = "UP";
+    private static final String DOWN = "DOWN";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StreamService streamService;
+
+    @Autowired
+    private ChannelRegistry channelRegistry;
+
+    @Value("${health.db-timeout-sec:2}")
+    private int dbTimeoutSeconds;
+
+    // 채널의 현재 폴링 간격의 몇 배 동안 성공이 없으면 DOWN
+    @Value("${health.poll-stale-factor:3}")
+    private int pollStaleFactor;
+
+    // 아직 한 번도 성공하지 않은 채널은 기동 시각부터 계산
+    private final long startedAt = System.currentTimeMillis();
+
+    @Override
+    public Map<String, Object> check() {
+        Map<String, Object> database = checkDatabase();
+        Map<String, Object> poller = checkPoller();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", UP.equals(database.get("status")) && UP.equals(poller.get("status")) ? UP : DOWN);
+        result.put("timestamp", System.currentTimeMillis());
+        result.put("database", database);
+        result.put("poller", poller);
+        return result;
+    }
+
+    private Map<String, Object> checkDatabase() {
+        Map<String, Object> database = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            database.put("status", connection.isValid(dbTimeoutSeconds) ? UP : DOWN);
+        } catch (Exception e) {
+            database.put("status", DOWN);
+            database.put("error", e.getClass().getSimpleName());
+        }
+        database.put("latencyMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return database;
+    }
+
+    private Map<String, Object> checkPoller() {
+        long now = System.currentTimeMillis();
+        boolean up = true;
+        Map<String, Object> channels = new LinkedHashMap<>();
+        for (String channelId : channelRegistry.getChannelIds()) {
+            long lastSuccessAt = streamService.getLastPollSuccessAt(channelId);
+            long ageMillis = now - (lastSuccessAt > 0 ? lastSuccessAt : startedAt);
+            long maxAgeMillis = streamService.getPollIntervalMillis(channelId) * pollStaleFactor;
+            boolean fresh = ageMillis <= maxAgeMillis;
+            up &= fresh;
+
+            Map<String, Object> channel = new LinkedHashMap<>();
+            channel.put("status", fresh ? UP : DOWN);
+            channel.put("lastSuccessAt", lastSuccessAt > 0 ? lastSuccessAt : null);
+            channel.put("ageMillis", ageMillis);
+            channel.put("maxAgeMillis", maxAgeMillis);
+            channels.put(channelId, channel);
+        }
+
+        Map<String, Object> poller = new LinkedHashMap<>();
+        poller.put("status", up ? UP : DOWN);
+        poller.put("channels", channels);
+        return poller;
+    }
+}
@@ -0,0 +1,202 @@
+package com.foririon.project.service.impl;
+
+import com.foririon.project.mapper.NotificationOutboxMapper;
+import com.foririon.project.mapper.StreamMapper;
+import com.foririon.project.service.NotificationOutboxService;
+import com.foririon.project.service.NotificationService;
+import com.foririon.project.service.chzzk.ChannelRegistry;
+import com.foririon.project.vo.LiveStatusContentVO;
+import com.foririon.project.vo.NotificationOutboxVO;
+import com.foririon.project.vo.StreamVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Service
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private static final String LIVE_START = "live_start";
+
+    @Autowired
+    private NotificationOutboxMapper notificationOutboxMapper;
+
+    @Autowired
+    private StreamMapper streamMapper;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ChannelRegistry channelRegistry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    // 전송을 시작한 행은 이 시간 동안 findDue에 다시 잡히지 않는다 (결과 반영 전에 노드가 죽었을 때만 재전송)
+    @Value("${outbox.in-flight-lease-seconds:600}")
+    private int inFlightLeaseSeconds;
+
+    @Value("${outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.base-backoff-seconds:5}")
+    private int baseBackoffSeconds;
+
+    @Value("${outbox.max-backoff-seconds:600}")
+    private int maxBackoffSeconds;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Queue<Outcome> completed = new ConcurrentLinkedQueue<>();
+
+    // streams 행과 live_start 아웃박스를 한 트랜잭션으로 적재 (아웃박스 적재가 실패하면 권한도 롤백돼 다음 호출이 다시 가져감)
+    // 방송 중 폴링/정기 점검 대부분은 권한을 얻지 못하는 경로라 INSERT 한 번으로 끝난다
+    @Override
+    @Transactional
+    public boolean claimStreamStart(LiveStatusContentVO content) {
+        if (content == null || content.getLiveId() == null) return false;
+
+        StreamVO stream = new StreamVO();
+        stream.setLiveId(content.getLiveId());
+        stream.setChannelId(content.getChannelId());
+        stream.setTitle(content.getLiveTitle());
+        stream.setStartTime(new Date());
+        if (streamMapper.claimStreamStart(stream) != 1) {
+            return false;
+        }
+
+        insertStartOutbox(content);
+        return true;
+    }
+
+    private void insertStartOutbox(LiveStatusContentVO content) {
+        NotificationOutboxVO outbox = new NotificationOutboxVO();
+        outbox.setIdempotencyKey(LIVE_START + ":" + content.getLiveId());
+        outbox.setType(LIVE_START);
+        outbox.setLiveId(content.getLiveId());
+        outbox.setTopic(channelRegistry.topicFor(LIVE_START, content.getChannelId()));
+        outbox.setTitle(startTitle(content.getChannelId()));
+        outbox.setBody(content.getLiveTitle());
+        notificationOutboxMapper.insertIgnore(outbox);
+    }
+
+    // 기본 채널은 기존 문구, 그 외 채널은 채널 이름으로 알림 제목 구성
+    private String startTitle(String channelId) {
+        if (channelId == null || channelId.equals(channelRegistry.getDefaultChannelId())) {
+            return "이리온 방송 시작!";
+        }
+        String channelName = channelRegistry.getChannelName(channelId);
+        return channelName != null ? channelName + " 방송 시작!" : "방송 시작!";
+    }
+
+    @Override
+    public int relayDue() {
+        settleCompleted();
+
+        int dispatched = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<NotificationOutboxVO> due = notificationOutboxMapper.findDue(batchSize);
+            List<NotificationOutboxVO> claimed = new ArrayList<>(due.size());
+            for (NotificationOutboxVO outbox : due) {
+                // 임대가 지났어도 이 노드에서 아직 전송 중이면 다시 보내지 않는다
+                if (!inFlight.contains(outbox.getId())) {
+                    claimed.add(outbox);
+                }
+            }
+            if (claimed.isEmpty()) {
+                break;
+            }
+            dispatched += relayBatch(claimed);
+            if (due.size() < batchSize) {
+                break;
+            }
+        }
+        return dispatched;
+    }
+
+    // 배치 전체를 선점한 뒤 디스패처에 넣고 기다리지 않는다
+    // 팬아웃은 기기 수에 따라 오래 걸리므로 전송이 끝나기 전에 실패로 세거나 재시도하지 않는다
+    private int relayBatch(List<NotificationOutboxVO> claimed) {
+        List<Long> ids = new ArrayList<>(claimed.size());
+        for (NotificationOutboxVO outbox : claimed) {
+            ids.add(outbox.getId());
+        }
+        notificationOutboxMapper.claim(ids, inFlightLeaseSeconds);
+
+        for (NotificationOutboxVO outbox : claimed) {
+            inFlight.add(outbox.getId());
+            notificationService.deliver(outbox.getTopic(), outbox.getTitle(), outbox.getBody(), outbox.getType())
+                    .whenComplete((value, error) -> completed.add(new Outcome(outbox, error == null)));
+        }
+        return claimed.size();
+    }
+
+    // 결과 반영은 디스패처 워커가 아닌 릴레이 주기에서 모아서 성공/실패를 각각 한 번의 UPDATE로 처리
+    @Override
+    public int settleCompleted() {
+        List<Outcome> outcomes = new ArrayList<>();
+        Outcome outcome;
+        while ((outcome = completed.poll()) != null) {
+            outcomes.add(outcome);
+        }
+        if (outcomes.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        List<String> sentLiveIds = new ArrayList<>();
+        for (Outcome o : outcomes) {
+            if (o.sent) {
+                sentIds.add(o.outbox.getId());
+                if (LIVE_START.equals(o.outbox.getType()) && o.outbox.getLiveId() != null) {
+                    sentLiveIds.add(o.outbox.getLiveId());
+                }
+            } else {
+                failedIds.add(o.outbox.getId());
+            }
+        }
+
+        try {
+            if (!sentIds.isEmpty()) {
+                notificationOutboxMapper.markSent(sentIds);
+            }
+            if (!sentLiveIds.isEmpty()) {
+                streamMapper.updateNotificationSentBulk(sentLiveIds);
+            }
+            if (!failedIds.isEmpty()) {
+                notificationOutboxMapper.markFailedAttempt(failedIds, maxAttempts, baseBackoffSeconds, maxBackoffSeconds);
+            }
+        } catch (RuntimeException e) {
+            // DB 오류: 결과를 되돌려 두고 다음 주기에 다시 반영 (그동안 inFlight에 남아 재전송되지 않음)
+            completed.addAll(outcomes);
+            throw e;
+        }
+
+        for (Outcome o : outcomes) {
+            inFlight.remove(o.outbox.getId());
+        }
+        return outcomes.size();
+    }
+
+    private static class Outcome {
+        private final NotificationOutboxVO outbox;
+        private final boolean sent;
+
+        private Outcome(NotificationOutboxVO outbox, boolean sent) {
+            this.outbox = outbox;
+            this.sent = sent;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.foririon.project.service.impl;
 
 import com.foririon.project.mapper.NotificationMapper;
+import com.foririon.project.service.FCMService;
 import com.foririon.project.service.NotificationService;
-import com.google.firebase.messaging.FirebaseMessaging;
+import com.foririon.project.service.dispatch.NotificationDispatcher;
+import com.foririon.project.service.push.FcmMessages;
+import com.foririon.project.service.push.FcmSender;
+import com.foririon.project.service.registration.TokenRegistrationBuffer;
+import com.foririon.project.vo.FanoutResultVO;
 import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -17,27 +21,46 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     private NotificationMapper notificationMapper;
 
+    @Autowired
+    private FCMService fcmService;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private FcmSender fcmSender;
+
+    @Autowired
+    private TokenRegistrationBuffer tokenRegistrationBuffer;
+
+    // topic: 토픽 구독자에게 전송 (앱의 알림 설정이 토픽 구독으로 관리됨)
+    // devices: devices 테이블의 활성 토큰 전체에 멀티캐스트로 직접 전송
+    @Value("${fcm.delivery-mode:topic}")
+    private String deliveryMode;
+
+    // DB 저장은 버퍼가 모아서 처리하므로 요청은 바로 반환
     @Override
-    @Transactional
     public void registerToken(String fcmToken) {
-        notificationMapper.insertToken(fcmToken);
+        tokenRegistrationBuffer.register(fcmToken);
     }
 
     public void sendNotification(String title, String body) {
-        String topic = "live_start";
-
-        Message message = Message.builder()
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .setTopic(topic)
-                .build();
-
-        try {
-            FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
-            // Silent fail
+        deliver("live_start", title, body, "live_start");
+    }
+
+    @Override
+    public CompletableFuture<Void> deliver(String topic, String title, String body, String type) {
+        if ("devices".equals(deliveryMode)) {
+            return notificationDispatcher.submitBulk(() -> {
+                FanoutResultVO result = fcmService.sendToAllDevices(title, body, type);
+                if (result.getTotalTokens() > 0 && result.getSuccessCount() == 0) {
+                    throw new IllegalStateException("multicast fan-out failed for every device");
+                }
+            });
         }
+
+        Message message = FcmMessages.topic(topic, title, body, type);
+
+        return notificationDispatcher.submit(() -> fcmSender.send(message));
     }
 }
\ No newline at end of file
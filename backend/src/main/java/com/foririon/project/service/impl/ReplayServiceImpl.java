@@ -1,61 +1,341 @@
 package com.foririon.project.service.impl;
 
+import com.foririon.project.config.IoExecutor;
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.mapper.ReplayMapper;
 import com.foririon.project.service.ReplayService;
+import com.foririon.project.service.cache.ReplayCache;
+import com.foririon.project.service.chzzk.ChannelRegistry;
+import com.foririon.project.service.chzzk.ChzzkClient;
+import com.foririon.project.service.cluster.LeaderElection;
 import com.foririon.project.vo.ChzzkApiResponseVO;
 import com.foririon.project.vo.ReplayContentVO;
 import com.foririon.project.vo.ReplayVO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 다시보기는 replays 카탈로그 테이블에서 제공하고, 치지직 호출은 백그라운드 동기화에서만 일어난다.
+ * 동기화는 최신 페이지부터 이미 아는 videoNo가 나올 때까지만 받고,
+ * 이후 페이지는 주기마다 몇 페이지씩 돌아가며 다시 받아 조회수를 갱신한다 (카탈로그가 덜 찼으면 백필).
+ */
 @Service
 public class ReplayServiceImpl implements ReplayService {
 
     @Autowired
-    private RestTemplate restTemplate;
+    private ChzzkClient chzzkClient;
 
-    @Value("${chzzk.channel.id}")
-    private String channelId;
+    @Autowired
+    private ChannelRegistry channelRegistry;
+
+    @Autowired
+    private ReplayMapper replayMapper;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private IoExecutor ioExecutor;
+
+    @Autowired
+    private LeaderElection leaderElection;
+
+    @Value("${chzzk.replays.ttl-ms:300000}")
+    private long replayTtlMillis;
+
+    @Value("${chzzk.replays.cold-wait-ms:5000}")
+    private long replayColdWaitMillis;
+
+    @Value("${chzzk.replays.refresh-threads:4}")
+    private int refreshThreads;
+
+    @Value("${chzzk.replays.page.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${chzzk.replays.page.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${chzzk.replays.sync.page-size:50}")
+    private int syncPageSize;
+
+    // 새 영상 확인/백필 시 한 주기에 받을 최대 페이지 수
+    @Value("${chzzk.replays.sync.max-pages:10}")
+    private int syncMaxPages;
+
+    // 조회수 갱신용으로 한 주기에 다시 받을 페이지 수
+    @Value("${chzzk.replays.sync.refresh-pages:2}")
+    private int syncRefreshPages;
+
+    // 첫 페이지(커서 없는 요청)만 메모리에 유지
+    private final ConcurrentMap<String, ReplayCache> replayCaches = new ConcurrentHashMap<>();
+
+    // 채널별 조회수 갱신 위치와 동기화 진행 여부
+    private final ConcurrentMap<String, Integer> refreshCursors = new ConcurrentHashMap<>();
+    private final Set<String> syncing = ConcurrentHashMap.newKeySet();
+
+    // 치지직이 응답하지 않는 동안에도 카탈로그는 그대로 제공하고, 마지막 동기화 실패 여부만 표시
+    private final ConcurrentMap<String, Long> catalogSyncedAt = new ConcurrentHashMap<>();
+    private final Set<String> staleCatalogs = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong syncRuns = new AtomicLong();
+    private final AtomicLong syncFailures = new AtomicLong();
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong rowsUpserted = new AtomicLong();
+
+    private ExecutorService refreshExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        refreshExecutor = Executors.newFixedThreadPool(refreshThreads, r -> {
+            Thread thread = new Thread(r, "replay-refresher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        metricsRegistry.register(scrape -> {
+            for (ReplayCache cache : replayCaches.values()) {
+                cache.collect(scrape);
+            }
+            String help = "Replay catalog sync runs by outcome";
+            scrape.counter("replay_sync_runs_total", help, syncRuns.get() - syncFailures.get(), "outcome", "ok");
+            scrape.counter("replay_sync_runs_total", help, syncFailures.get(), "outcome", "failed");
+            scrape.counter("replay_sync_pages_total", "Chzzk video pages fetched by the catalog sync", pagesFetched.get());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
 
     @Override
     public List<ReplayVO> getReplays() {
-        try {
-            // Chzzk VOD API 호출
-            String videoUrl = "https://api.chzzk.naver.com/service/v1/channels/" + channelId + "/videos?sortType=LATEST";
+        return getReplays(channelRegistry.getDefaultChannelId());
+    }
 
-            // User-Agent 헤더 추가
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "Mozilla/5.0");
-            HttpEntity<?> entity = new HttpEntity<>(headers);
+    @Override
+    public List<ReplayVO> getReplays(String channelId) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return new ArrayList<>();
+        }
+        List<ReplayVO> replays = cacheFor(channelId).get();
+        return replays != null ? replays : new ArrayList<>();
+    }
 
-            ParameterizedTypeReference<ChzzkApiResponseVO<ReplayContentVO>> responseType =
-                    new ParameterizedTypeReference<ChzzkApiResponseVO<ReplayContentVO>>() {};
+    @Override
+    public List<ReplayVO> getReplays(String channelId, Long cursor, int limit) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return new ArrayList<>();
+        }
+        int boundedLimit = pageLimit(limit);
+        if (cursor == null && boundedLimit == defaultLimit) {
+            return getReplays(channelId);
+        }
+        return replayMapper.findReplaysBefore(channelId, cursor, boundedLimit);
+    }
 
-            ResponseEntity<ChzzkApiResponseVO<ReplayContentVO>> responseEntity =
-                    restTemplate.exchange(videoUrl, HttpMethod.GET, entity, responseType);
+    @Override
+    public CompletableFuture<List<ReplayVO>> getReplaysAsync(String channelId) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        ReplayCache cache = cacheFor(channelId);
+        return ioExecutor.completeWithin(cache.getAsync(), replayColdWaitMillis, cache::peek)
+                .thenApply(replays -> replays != null ? replays : new ArrayList<>());
+    }
 
-            ChzzkApiResponseVO<ReplayContentVO> response = responseEntity.getBody();
+    @Override
+    public CompletableFuture<List<ReplayVO>> getReplaysAsync(String channelId, Long cursor, int limit) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        int boundedLimit = pageLimit(limit);
+        if (cursor == null && boundedLimit == defaultLimit) {
+            return getReplaysAsync(channelId);
+        }
+        return ioExecutor.supply(() -> replayMapper.findReplaysBefore(channelId, cursor, boundedLimit));
+    }
 
-            if (response != null && response.getContent() != null) {
-                ReplayContentVO content = response.getContent();
-                if (content.getData() != null) {
-                    return content.getData();
+    @Override
+    public int pageLimit(int limit) {
+        return limit > 0 ? Math.min(limit, maxLimit) : defaultLimit;
+    }
+
+    @Override
+    public boolean isCatalogStale(String channelId) {
+        return staleCatalogs.contains(channelId);
+    }
+
+    @Override
+    public long getCatalogSyncedAt(String channelId) {
+        return catalogSyncedAt.getOrDefault(channelId, 0L);
+    }
+
+    @Override
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Map.Entry<String, ReplayCache> entry : replayCaches.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().getStats());
+        }
+        Map<String, Object> sync = new LinkedHashMap<>();
+        sync.put("runs", syncRuns.get());
+        sync.put("failures", syncFailures.get());
+        sync.put("pagesFetched", pagesFetched.get());
+        sync.put("rowsUpserted", rowsUpserted.get());
+        sync.put("refreshCursors", new LinkedHashMap<>(refreshCursors));
+        sync.put("staleChannels", new ArrayList<>(staleCatalogs));
+        stats.put("sync", sync);
+        return stats;
+    }
+
+    private ReplayCache cacheFor(String channelId) {
+        return replayCaches.computeIfAbsent(channelId, id ->
+                new ReplayCache(id, () -> replayMapper.findReplaysBefore(id, null, defaultLimit),
+                        replayTtlMillis, replayColdWaitMillis, refreshExecutor));
+    }
+
+    // 여러 노드면 리더만 치지직에서 동기화하고, 팔로워는 캐시 TTL마다 replays 테이블을 다시 읽는다
+    @Scheduled(fixedDelayString = "${chzzk.replays.sync.interval-ms:300000}")
+    public void syncCatalog() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        for (String channelId : channelRegistry.getChannelIds()) {
+            if (!syncing.add(channelId)) {
+                continue;
+            }
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        syncChannel(channelId);
+                    } finally {
+                        syncing.remove(channelId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                syncing.remove(channelId);
+                return;
+            }
+        }
+    }
+
+    private void syncChannel(String channelId) {
+        syncRuns.incrementAndGet();
+        try {
+            Long maxKnown = replayMapper.findMaxVideoNo(channelId);
+
+            // 1. 새 영상: 아는 videoNo가 나올 때까지 최신 페이지부터
+            int page = 0;
+            ReplayContentVO first = null;
+            while (page < syncMaxPages) {
+                ReplayContentVO content = fetchPage(channelId, page);
+                if (content == null) {
+                    break;
+                }
+                if (first == null) {
+                    first = content;
                 }
+                upsert(channelId, content.getData());
+                page++;
+                if (reachedKnown(content.getData(), maxKnown) || page >= content.getTotalPages()) {
+                    break;
+                }
+            }
+            if (first == null) {
+                // 치지직은 응답했지만 영상이 없음 (정상 상태이므로 실패로 세지 않음)
+                catalogSyncedAt.put(channelId, System.currentTimeMillis());
+                staleCatalogs.remove(channelId);
+                return;
             }
 
-            return new ArrayList<>();
+            // 2. 이후 페이지는 순환하며 다시 받아 조회수 갱신, 카탈로그가 덜 찼으면 더 많이 받아 백필
+            boolean backfilling = replayMapper.countReplays(channelId) < first.getTotalCount();
+            int budget = backfilling ? syncMaxPages : syncRefreshPages;
+            int cursor = Math.max(refreshCursors.getOrDefault(channelId, page), 1);
+            for (int i = 0; i < budget; i++) {
+                if (cursor >= first.getTotalPages()) {
+                    cursor = 1;
+                    if (cursor >= first.getTotalPages()) {
+                        break;
+                    }
+                }
+                ReplayContentVO content = fetchPage(channelId, cursor);
+                if (content == null) {
+                    break;
+                }
+                upsert(channelId, content.getData());
+                cursor++;
+            }
+            refreshCursors.put(channelId, cursor);
+
+            cacheFor(channelId).refresh();
+            catalogSyncedAt.put(channelId, System.currentTimeMillis());
+            staleCatalogs.remove(channelId);
         } catch (Exception e) {
-            // Silent fail
-            return new ArrayList<>();
+            // 치지직/DB 오류는 다음 주기에 다시 시도 (이미 받은 페이지는 반영된 상태)
+            syncFailures.incrementAndGet();
+            staleCatalogs.add(channelId);
+        }
+    }
+
+    // 빈 페이지면 null, 호출 실패(브레이커 거절 포함)나 응답 본문이 없으면 예외로 동기화를 중단한다
+    private ReplayContentVO fetchPage(String channelId, int page) throws IOException {
+        // Chzzk VOD API 호출
+        ChzzkApiResponseVO<ReplayContentVO> response = chzzkClient.getVideos(channelId, page, syncPageSize);
+        pagesFetched.incrementAndGet();
+
+        if (response == null || response.getContent() == null) {
+            throw new IOException("Empty videos response for " + channelId + " page " + page);
+        }
+        ReplayContentVO content = response.getContent();
+        if (content.getData() != null && !content.getData().isEmpty()) {
+            return content;
+        }
+        return null;
+    }
+
+    private void upsert(String channelId, List<ReplayVO> replays) {
+        List<ReplayVO> valid = new ArrayList<>(replays.size());
+        for (ReplayVO replay : replays) {
+            if (replay.getVideoNo() != null) {
+                valid.add(replay);
+            }
+        }
+        if (!valid.isEmpty()) {
+            replayMapper.upsertReplays(channelId, valid);
+            rowsUpserted.addAndGet(valid.size());
+        }
+    }
+
+    private boolean reachedKnown(List<ReplayVO> replays, Long maxKnown) {
+        if (maxKnown == null) {
+            return false;
+        }
+        for (ReplayVO replay : replays) {
+            if (replay.getVideoNo() != null && replay.getVideoNo() <= maxKnown) {
+                return true;
+            }
         }
+        return false;
     }
 }
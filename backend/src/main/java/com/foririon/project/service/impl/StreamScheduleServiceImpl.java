@@ -1,21 +1,178 @@
 package com.foririon.project.service.impl;
 
+import com.foririon.project.config.IoExecutor;
 import com.foririon.project.mapper.StreamScheduleMapper;
 import com.foririon.project.service.StreamScheduleService;
+import com.foririon.project.service.cache.ScheduleIndex;
 import com.foririon.project.vo.StreamScheduleVO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class StreamScheduleServiceImpl implements StreamScheduleService {
 
+    private static final ZoneId SCHEDULE_ZONE = ZoneId.of("Asia/Seoul");
+
     @Autowired
     private StreamScheduleMapper streamScheduleMapper;
 
+    @Autowired
+    private IoExecutor ioExecutor;
+
+    // 메모리에 올려 둘 과거 일정 범위. 이보다 오래된 구간은 DB에서 조회
+    @Value("${schedule.index.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${schedule.default-past-days:30}")
+    private int defaultPastDays;
+
+    @Value("${schedule.default-limit:100}")
+    private int defaultLimit;
+
+    @Value("${schedule.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${schedule.index.full-reload-ms:3600000}")
+    private long fullReloadMillis;
+
+    private volatile ScheduleIndex index;
+    private volatile long indexLoadedAt;
+
+    // 기본 조회 결과. 인덱스와 기준 날짜가 같으면 같은 목록 객체를 돌려줘 응답 직렬화를 재사용한다
+    private volatile DefaultView defaultView;
+
+    private final AtomicLong indexHits = new AtomicLong();
+    private final AtomicLong dbQueries = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
     @Override
     public List<StreamScheduleVO> getSchedules() {
-        return streamScheduleMapper.findAllSchedules();
+        ScheduleIndex current = index();
+        long from = LocalDate.now(SCHEDULE_ZONE).minusDays(defaultPastDays).atStartOfDay(SCHEDULE_ZONE).toInstant().toEpochMilli();
+
+        DefaultView view = defaultView;
+        if (view == null || view.index != current || view.from != from) {
+            view = new DefaultView(current, from, getSchedules(current, from, 0, defaultLimit));
+            defaultView = view;
+        }
+        return view.schedules;
+    }
+
+    @Override
+    public List<StreamScheduleVO> getSchedules(Date from, Date to, int limit) {
+        int boundedLimit = limit > 0 ? Math.min(limit, maxLimit) : defaultLimit;
+        return getSchedules(index(), from.getTime(), to != null ? to.getTime() : 0, boundedLimit);
+    }
+
+    @Override
+    public CompletableFuture<List<StreamScheduleVO>> getSchedulesAsync() {
+        if (index == null) {
+            return ioExecutor.supply(this::getSchedules);
+        }
+        return CompletableFuture.completedFuture(getSchedules());
+    }
+
+    @Override
+    public CompletableFuture<List<StreamScheduleVO>> getSchedulesAsync(Date from, Date to, int limit) {
+        ScheduleIndex current = index;
+        if (current == null || !current.covers(from.getTime())) {
+            return ioExecutor.supply(() -> getSchedules(from, to, limit));
+        }
+        return CompletableFuture.completedFuture(getSchedules(from, to, limit));
+    }
+
+    private List<StreamScheduleVO> getSchedules(ScheduleIndex current, long from, long to, int limit) {
+        if (current.covers(from)) {
+            indexHits.incrementAndGet();
+            return current.range(from, to, limit);
+        }
+        dbQueries.incrementAndGet();
+        return streamScheduleMapper.findSchedulesBetween(new Date(from), to > 0 ? new Date(to) : null, limit);
+    }
+
+    @Override
+    public boolean isWithinScheduleWindow(long nowMillis, long beforeMillis, long afterMillis) {
+        // 시작 시각이 [now - after, now + before] 안에 있는 일정이 하나라도 있으면 구간 안
+        return !index().range(nowMillis - afterMillis, nowMillis + beforeMillis + 1, 1).isEmpty();
+    }
+
+    // 테이블이 바뀌었을 때만(행 수 또는 마지막 변경 시각) 인덱스를 다시 적재
+    @Scheduled(fixedDelayString = "${schedule.index.check-ms:10000}")
+    public void checkForChanges() {
+        try {
+            String version = streamScheduleMapper.findScheduleVersion();
+            ScheduleIndex current = index;
+            boolean expired = System.currentTimeMillis() - indexLoadedAt >= fullReloadMillis;
+            if (current == null || expired || !current.getVersion().equals(version)) {
+                reload(version);
+            }
+        } catch (Exception e) {
+            // DB 오류 시 기존 인덱스 유지
+        }
+    }
+
+    private ScheduleIndex index() {
+        ScheduleIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    try {
+                        reload(streamScheduleMapper.findScheduleVersion());
+                    } catch (Exception e) {
+                        // DB를 읽지 못하면 빈 인덱스로 시작하고 다음 점검에서 다시 적재
+                        index = new ScheduleIndex(Collections.<StreamScheduleVO>emptyList(), Long.MAX_VALUE, "");
+                    }
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private void reload(String version) {
+        long now = System.currentTimeMillis();
+        long coveredFrom = now - TimeUnit.DAYS.toMillis(retentionDays);
+        List<StreamScheduleVO> schedules = streamScheduleMapper.findSchedulesFrom(new Date(coveredFrom));
+        index = new ScheduleIndex(schedules, coveredFrom, version);
+        indexLoadedAt = now;
+        reloads.incrementAndGet();
+    }
+
+    @Override
+    public Map<String, Object> getIndexStats() {
+        ScheduleIndex current = index;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", current != null ? current.size() : 0);
+        stats.put("coveredFrom", current != null ? new Date(current.getCoveredFrom()) : null);
+        stats.put("version", current != null ? current.getVersion() : null);
+        stats.put("reloads", reloads.get());
+        stats.put("indexHits", indexHits.get());
+        stats.put("dbQueries", dbQueries.get());
+        return stats;
+    }
+
+    private static class DefaultView {
+        private final ScheduleIndex index;
+        private final long from;
+        private final List<StreamScheduleVO> schedules;
+
+        DefaultView(ScheduleIndex index, long from, List<StreamScheduleVO> schedules) {
+            this.index = index;
+            this.from = from;
+            this.schedules = schedules;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,51 +1,386 @@
 package com.foririon.project.service.impl;
 
-import com.foririon.project.mapper.StreamMapper;
+import com.foririon.project.config.IoExecutor;
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.mapper.LiveStateMapper;
+import com.foririon.project.service.NotificationOutboxService;
+import com.foririon.project.service.StreamScheduleService;
 import com.foririon.project.service.StreamService;
+import com.foririon.project.service.ThumbnailService;
+import com.foririon.project.service.ViewerSeriesService;
 import com.foririon.project.service.FCMService;
+import com.foririon.project.service.cache.LiveStatusSnapshot;
+import com.foririon.project.service.chzzk.ChannelRegistry;
+import com.foririon.project.service.chzzk.ChzzkClient;
+import com.foririon.project.service.cluster.LeaderElection;
+import com.foririon.project.service.push.LiveStatusBroadcaster;
 import com.foririon.project.vo.ChzzkApiResponseVO;
+import com.foririon.project.vo.LiveStateVO;
 import com.foririon.project.vo.LiveStatusContentVO;
-import com.foririon.project.vo.StreamVO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Date;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class StreamServiceImpl implements StreamService {
 
     @Autowired
-    private StreamMapper streamMapper;
+    private ChzzkClient chzzkClient;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private FCMService fcmService;
 
     @Autowired
-    private FCMService fcmService;
+    private ChannelRegistry channelRegistry;
+
+    @Autowired
+    private StreamScheduleService streamScheduleService;
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private LiveStatusBroadcaster liveStatusBroadcaster;
+
+    @Autowired
+    private ViewerSeriesService viewerSeriesService;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private IoExecutor ioExecutor;
+
+    @Autowired
+    private LeaderElection leaderElection;
+
+    @Autowired
+    private LiveStateMapper liveStateMapper;
+
+    // 갱신은 폴러가 주도하므로 TTL은 느린 폴링 간격보다 길게 잡아 조회 요청이 업스트림 호출을 만들지 않도록 한다
+    @Value("${chzzk.live-status.ttl-ms:180000}")
+    private long liveStatusTtlMillis;
+
+    @Value("${chzzk.live-status.cold-wait-ms:5000}")
+    private long liveStatusColdWaitMillis;
+
+    // 썸네일 URL(live-detail)은 방송 중 거의 바뀌지 않으므로 liveId별로 이 간격마다만 다시 조회
+    @Value("${chzzk.live-detail.refresh-ms:60000}")
+    private long liveDetailRefreshMillis;
+
+    @Value("${chzzk.live-detail.threads:4}")
+    private int liveDetailThreads;
+
+    @Value("${chzzk.poller.threads:16}")
+    private int pollerThreads;
+
+    @Value("${chzzk.poller.jitter-ms:2000}")
+    private long pollJitterMillis;
+
+    // 방송 중이거나 예정 시작 시간 근처면 빠르게, 그 외에는 느리게 폴링
+    @Value("${chzzk.poller.fast-interval-ms:5000}")
+    private long fastIntervalMillis;
+
+    @Value("${chzzk.poller.slow-interval-ms:120000}")
+    private long slowIntervalMillis;
+
+    @Value("${chzzk.poller.window-before-ms:600000}")
+    private long windowBeforeMillis;
+
+    @Value("${chzzk.poller.window-after-ms:1800000}")
+    private long windowAfterMillis;
+
+    // 채널별 스냅샷과 이전 방송 상태
+    private final ConcurrentMap<String, ChannelState> channelStates = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService pollExecutor;
+
+    // 상태 조회와 동시에 보내는 live-detail 요청용 (폴러 스레드가 기다리므로 폴러 풀과 분리)
+    private ExecutorService liveDetailExecutor;
+
+    private final AtomicLong pollCycles = new AtomicLong();
+    private final AtomicLong fastPolls = new AtomicLong();
+    private final AtomicLong slowPolls = new AtomicLong();
+    private final AtomicLong fastPathRecords = new AtomicLong();
+    private final AtomicLong liveDetailCached = new AtomicLong();
+    private final AtomicLong liveDetailParallel = new AtomicLong();
+    private final AtomicLong liveDetailSequential = new AtomicLong();
+    private final AtomicLong sharedWrites = new AtomicLong();
+    private final AtomicLong sharedWriteFailures = new AtomicLong();
+    private final AtomicLong sharedReads = new AtomicLong();
+    private final AtomicLong sharedReadFailures = new AtomicLong();
+    private volatile long lastCycleMillis;
+    private volatile long maxCycleMillis;
+    private volatile int lastCycleChannels;
+
+    @PostConstruct
+    public void initPoller() {
+        AtomicInteger threadCount = new AtomicInteger();
+        pollExecutor = Executors.newScheduledThreadPool(pollerThreads, r -> {
+            Thread thread = new Thread(r, "live-status-poller-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger detailThreadCount = new AtomicInteger();
+        liveDetailExecutor = Executors.newFixedThreadPool(liveDetailThreads, r -> {
+            Thread thread = new Thread(r, "live-detail-" + detailThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        metricsRegistry.register(scrape -> {
+            for (ChannelState state : channelStates.values()) {
+                state.snapshot.collect(scrape);
+            }
+            scrape.counter("chzzk_poll_cycles_total", "Completed poller cycles", pollCycles.get());
+            scrape.gauge("chzzk_poll_last_cycle_seconds", "Duration of the last poller cycle", lastCycleMillis / 1000.0);
+            String detailHelp = "Thumbnail lookups on OPEN polls (cached = no live-detail call, parallel = sent with live-status)";
+            scrape.counter("chzzk_live_detail_lookups_total", detailHelp, liveDetailCached.get(), "result", "cached");
+            scrape.counter("chzzk_live_detail_lookups_total", detailHelp, liveDetailParallel.get(), "result", "parallel");
+            scrape.counter("chzzk_live_detail_lookups_total", detailHelp, liveDetailSequential.get(), "result", "sequential");
+        });
+    }
+
+    @PreDestroy
+    public void shutdownPoller() {
+        pollExecutor.shutdownNow();
+        liveDetailExecutor.shutdownNow();
+    }
+
+    // 클라이언트 요청과 무관하게 폴링 시각이 된 채널만 갱신
+    // 채널마다 시작 시점을 jitter만큼 흩어서 업스트림에 한꺼번에 몰리지 않도록 한다
+    // 여러 노드로 띄우면 리더만 폴링하고, 나머지는 syncSharedLiveStates로 리더가 기록한 상태를 따라간다
+    @Scheduled(fixedDelayString = "${chzzk.poller.tick-ms:1000}")
+    public void refreshLiveStatus() {
+        Set<String> channelIds = channelRegistry.getChannelIds();
+        channelStates.keySet().retainAll(channelIds);
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> cycle = new ArrayList<>();
+        for (String channelId : channelIds) {
+            ChannelState state = stateFor(channelId);
+            if (now < state.nextPollAt || !state.polling.compareAndSet(false, true)) {
+                continue;
+            }
+
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            long jitter = Math.min(pollJitterMillis, state.intervalMillis / 2);
+            long delay = channelIds.size() > 1 && jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0;
+            try {
+                pollExecutor.schedule(() -> state.snapshot.refresh().whenComplete((value, error) -> {
+                    scheduleNextPoll(state, value);
+                    state.polling.set(false);
+                    done.complete(null);
+                }), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 폴링을 건너뛴다
+                state.polling.set(false);
+                continue;
+            }
+            cycle.add(done);
+        }
+
+        if (cycle.isEmpty()) {
+            return;
+        }
 
-    @Value("${chzzk.channel.id}")
-    private String channelId;
+        int channels = cycle.size();
+        CompletableFuture.allOf(cycle.toArray(new CompletableFuture<?>[0])).whenComplete((value, error) -> {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            pollCycles.incrementAndGet();
+            lastCycleMillis = elapsed;
+            lastCycleChannels = channels;
+            maxCycleMillis = Math.max(maxCycleMillis, elapsed);
+        });
+    }
+
+    // 팔로워: live_states를 한 번에 읽어 리더가 새로 기록한 채널의 스냅샷만 다시 불러온다
+    @Scheduled(fixedDelayString = "${cluster.follower.refresh-ms:1000}")
+    public void syncSharedLiveStates() {
+        if (!leaderElection.isEnabled() || leaderElection.isLeader()) {
+            return;
+        }
+        List<LiveStateVO> rows;
+        try {
+            rows = liveStateMapper.findAll();
+            sharedReads.incrementAndGet();
+        } catch (Exception e) {
+            // DB 오류 시 마지막으로 읽은 상태를 계속 제공
+            sharedReadFailures.incrementAndGet();
+            return;
+        }
+        for (LiveStateVO row : rows) {
+            if (!channelRegistry.isRegistered(row.getChannelId())) {
+                continue;
+            }
+            ChannelState state = stateFor(row.getChannelId());
+            LiveStateVO current = state.shared;
+            if (current == null || current.getUpdatedAt() != row.getUpdatedAt()) {
+                state.shared = row;
+                state.snapshot.refresh();
+            }
+        }
+    }
 
-    private String lastLiveStatus = "CLOSE"; // 이전 방송 상태 저장
+    private void scheduleNextPoll(ChannelState state, LiveStatusContentVO status) {
+        long now = System.currentTimeMillis();
+        boolean fast = (status != null && "OPEN".equals(status.getStatus()))
+                || (state.channelId.equals(channelRegistry.getDefaultChannelId())
+                    && streamScheduleService.isWithinScheduleWindow(now, windowBeforeMillis, windowAfterMillis));
+        state.intervalMillis = fast ? fastIntervalMillis : slowIntervalMillis;
+        state.nextPollAt = now + state.intervalMillis;
+        (fast ? fastPolls : slowPolls).incrementAndGet();
+    }
 
     @Override
     public LiveStatusContentVO getLiveStatus() {
-        // 1. 라이브 상태 확인
-        String statusUrl = "https://api.chzzk.naver.com/polling/v2/channels/" + channelId + "/live-status";
+        return getLiveStatus(channelRegistry.getDefaultChannelId());
+    }
+
+    @Override
+    public LiveStatusContentVO getLiveStatus(String channelId) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return null;
+        }
+        return stateFor(channelId).snapshot.get();
+    }
+
+    @Override
+    public CompletableFuture<LiveStatusContentVO> getLiveStatusAsync(String channelId) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LiveStatusSnapshot snapshot = stateFor(channelId).snapshot;
+        return ioExecutor.completeWithin(snapshot.getAsync(), liveStatusColdWaitMillis, snapshot::peek);
+    }
+
+    @Override
+    public LiveStatusContentVO peekLiveStatus(String channelId) {
+        if (!channelRegistry.isRegistered(channelId)) {
+            return null;
+        }
+        return stateFor(channelId).snapshot.peek();
+    }
+
+    @Override
+    public List<LiveStatusContentVO> getAllLiveStatuses() {
+        List<LiveStatusContentVO> statuses = new ArrayList<>();
+        for (ChannelState state : channelStates.values()) {
+            LiveStatusContentVO status = state.snapshot.peek();
+            if (status != null) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
+
+    private ChannelState stateFor(String channelId) {
+        return channelStates.computeIfAbsent(channelId, ChannelState::new);
+    }
+
+    // 스냅샷 로더: 리더는 치지직을 호출하고 결과를 live_states에 기록, 팔로워는 리더가 기록한 행을 읽는다
+    private LiveStatusContentVO loadLiveStatus(ChannelState state) {
+        if (!leaderElection.isLeader()) {
+            return readSharedState(state);
+        }
+        LiveStatusContentVO content = fetchLiveStatus(state);
+        publishSharedState(state, content);
+        return content;
+    }
 
+    private void publishSharedState(ChannelState state, LiveStatusContentVO content) {
+        if (!leaderElection.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
         try {
-            ParameterizedTypeReference<ChzzkApiResponseVO<LiveStatusContentVO>> responseType =
-                    new ParameterizedTypeReference<ChzzkApiResponseVO<LiveStatusContentVO>>() {};
+            if (content != null) {
+                liveStateMapper.upsertLiveState(LiveStateVO.of(content, now, state.intervalMillis, leaderElection.getNodeId()));
+            } else {
+                liveStateMapper.markStale(state.channelId, leaderElection.getNodeId(), state.intervalMillis, now);
+            }
+            sharedWrites.incrementAndGet();
+        } catch (Exception e) {
+            // 팔로워는 다음 기록까지 이전 상태를 제공
+            sharedWriteFailures.incrementAndGet();
+        }
+        state.shared = null;
+    }
+
+    // 리더가 한 번도 기록하지 않은 채널이면 null (스냅샷은 비어 있는 상태로 남는다)
+    private LiveStatusContentVO readSharedState(ChannelState state) {
+        LiveStateVO row = state.shared;
+        if (row == null) {
+            // 콜드 스타트: 동기화 주기를 기다리지 않고 바로 읽는다
+            row = liveStateMapper.findByChannelId(state.channelId);
+            sharedReads.incrementAndGet();
+            if (row == null) {
+                return null;
+            }
+            state.shared = row;
+        }
+
+        LiveStatusContentVO content = row.toContent();
+        String liveId = "OPEN".equals(content.getStatus()) ? content.getLiveId() : null;
+        if (liveId != null) {
+            thumbnailService.refreshLive(state.channelId, content.getLiveImageUrl());
+        }
+        // 이 노드가 리더가 됐을 때 이미 알린 전환을 다시 감지하지 않도록 리더의 마지막 상태를 따라간다
+        state.lastLiveStatus = content.getStatus();
+        state.lastLiveId = liveId;
+        state.liveDetail = null;
 
-            ResponseEntity<ChzzkApiResponseVO<LiveStatusContentVO>> responseEntity =
-                    restTemplate.exchange(statusUrl, HttpMethod.GET, null, responseType);
+        if (LiveStatusBroadcaster.isChanged(state.snapshot.peek(), content)) {
+            liveStatusBroadcaster.publish(state.channelId, content);
+        }
+        return content;
+    }
+
+    // 치지직 API를 실제로 호출하는 경로. 스냅샷 갱신 작업에서만 실행된다.
+    private LiveStatusContentVO fetchLiveStatus(ChannelState state) {
+        String channelId = state.channelId;
 
-            ChzzkApiResponseVO<LiveStatusContentVO> response = responseEntity.getBody();
+        // 방송 중이었고 썸네일 갱신 시점이 됐으면 live-detail을 상태 조회와 동시에 보낸다
+        Future<LiveStatusContentVO> pendingDetail = null;
+        LiveDetail cached = state.liveDetail;
+        if ("OPEN".equals(state.lastLiveStatus) && (cached == null || cached.isDue())) {
+            pendingDetail = submitLiveDetail(channelId);
+        }
+
+        // 1. 라이브 상태 확인
+        try {
+            ChzzkApiResponseVO<LiveStatusContentVO> response = chzzkClient.getLiveStatus(channelId);
             LiveStatusContentVO content = (response != null) ? response.getContent() : null;
 
             if (content != null) {
@@ -53,51 +388,151 @@ public class StreamServiceImpl implements StreamService {
 
                 // 방송 상태 변경 감지 및 알림 전송
                 String currentStatus = content.getStatus();
-                if (!currentStatus.equals(lastLiveStatus)) {
+                if (!currentStatus.equals(state.lastLiveStatus)) {
                     if ("OPEN".equals(currentStatus)) {
-                        fcmService.sendToTopic("live_start", "이리온 방송 시작!", "지금 방송 중입니다 ❄️🌸", "live_start");
-                    } else if ("CLOSE".equals(currentStatus) && "OPEN".equals(lastLiveStatus)) {
-                        fcmService.sendToTopic("live_end", "방송이 종료되었습니다", "오늘도 함께해주셔서 감사합니다! 💙", "live_end");
+                        // 시작 알림은 아웃박스 릴레이만 보낸다 (여기서 직접 보내면 중복 전송)
+                        recordStreamStartNow(content);
+                    } else if ("CLOSE".equals(currentStatus) && "OPEN".equals(state.lastLiveStatus)) {
+                        fcmService.sendToTopic(channelRegistry.topicFor("live_end", channelId), "방송이 종료되었습니다", "오늘도 함께해주셔서 감사합니다! 💙", "live_end");
                     }
-                    lastLiveStatus = currentStatus;
+                    state.lastLiveStatus = currentStatus;
                 }
 
-                // 2. OPEN 상태일 때만 썸네일 조회
+                // 2. OPEN 상태일 때만 썸네일 (liveId별 캐시)
                 if ("OPEN".equals(content.getStatus())) {
-                    try {
-                        String liveDetailUrl = "https://api.chzzk.naver.com/service/v2/channels/" + channelId + "/live-detail";
-
-                        // User-Agent 헤더 추가
-                        org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-                        headers.set("User-Agent", "Mozilla/5.0");
-                        org.springframework.http.HttpEntity<?> entity = new org.springframework.http.HttpEntity<>(headers);
-
-                        ResponseEntity<ChzzkApiResponseVO<LiveStatusContentVO>> detailResponse =
-                                restTemplate.exchange(liveDetailUrl, HttpMethod.GET, entity, responseType);
-
-                        ChzzkApiResponseVO<LiveStatusContentVO> detailData = detailResponse.getBody();
-                        if (detailData != null && detailData.getContent() != null) {
-                            String thumbnailUrl = detailData.getContent().getLiveImageUrl();
-                            if (thumbnailUrl != null && !thumbnailUrl.isEmpty()) {
-                                thumbnailUrl = thumbnailUrl.replace("{type}", "720");
-                                content.setLiveImageUrl(thumbnailUrl);
-                            }
-                        }
-                    } catch (Exception e) {
-                        // Silent fail
+                    String thumbnailUrl = liveImageUrl(state, content.getLiveId(), pendingDetail);
+                    pendingDetail = null;
+                    if (thumbnailUrl != null) {
+                        content.setLiveImageUrl(thumbnailUrl);
+                        // /api/images/live/{channelId}용 캐시를 폴링 주기에 맞춰 갱신
+                        thumbnailService.refreshLive(channelId, thumbnailUrl);
                     }
+                } else {
+                    state.liveDetail = null;
+                }
+
+                recordViewerSample(state, content);
+
+                // 상태/제목/시청자 수가 바뀐 경우에만 SSE 구독자에게 전송
+                if (LiveStatusBroadcaster.isChanged(state.snapshot.peek(), content)) {
+                    liveStatusBroadcaster.publish(channelId, content);
                 }
             }
 
             return content;
         } catch (Exception e) {
             return null;
+        } finally {
+            // 방송이 끝났거나 상태 조회가 실패해 쓰지 않은 요청
+            if (pendingDetail != null) {
+                pendingDetail.cancel(true);
+            }
+        }
+    }
+
+    private Future<LiveStatusContentVO> submitLiveDetail(String channelId) {
+        try {
+            return liveDetailExecutor.submit(() -> {
+                ChzzkApiResponseVO<LiveStatusContentVO> response = chzzkClient.getLiveDetail(channelId);
+                return response != null ? response.getContent() : null;
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 필요할 때 순차 조회
+            return null;
+        }
+    }
+
+    // 같은 방송이고 갱신 주기 전이면 캐시한 URL, 아니면 동시에 보낸 요청(없으면 지금 조회) 결과로 갱신
+    // 조회가 실패하면 같은 방송의 이전 URL을 유지한다
+    private String liveImageUrl(ChannelState state, String liveId, Future<LiveStatusContentVO> pending) {
+        LiveDetail cached = state.liveDetail;
+        boolean sameLive = cached != null && Objects.equals(cached.liveId, liveId);
+        if (sameLive && !cached.isDue()) {
+            if (pending != null) {
+                pending.cancel(true);
+            }
+            liveDetailCached.incrementAndGet();
+            return cached.imageUrl;
+        }
+
+        LiveStatusContentVO detail = pending != null ? await(pending) : null;
+        if (detail != null && detail.getLiveId() != null && !detail.getLiveId().equals(liveId)) {
+            // 그 사이 새 방송이 시작됨
+            detail = null;
+            pending = null;
+        }
+        if (pending != null) {
+            liveDetailParallel.incrementAndGet();
+        } else {
+            // 방송 시작 직후 첫 폴링 (한 방송에 한 번)
+            liveDetailSequential.incrementAndGet();
+            try {
+                ChzzkApiResponseVO<LiveStatusContentVO> response = chzzkClient.getLiveDetail(state.channelId);
+                detail = response != null ? response.getContent() : null;
+            } catch (Exception e) {
+                detail = null;
+            }
+        }
+
+        String imageUrl = detail != null ? detail.getLiveImageUrl() : null;
+        if (imageUrl != null && !imageUrl.isEmpty()) {
+            imageUrl = imageUrl.replace("{type}", "720");
+        } else {
+            imageUrl = sameLive ? cached.imageUrl : null;
+        }
+        state.liveDetail = new LiveDetail(liveId, imageUrl, System.currentTimeMillis());
+        return imageUrl;
+    }
+
+    private static LiveStatusContentVO await(Future<LiveStatusContentVO> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    // 방송 중이면 시청자 수 샘플을 남기고, 종료(또는 liveId 변경)를 감지하면 이전 방송을 마감한다
+    private void recordViewerSample(ChannelState state, LiveStatusContentVO content) {
+        long now = System.currentTimeMillis();
+        String liveId = "OPEN".equals(content.getStatus()) ? content.getLiveId() : null;
+        String previousLiveId = state.lastLiveId;
+        try {
+            if (previousLiveId != null && !previousLiveId.equals(liveId)) {
+                viewerSeriesService.streamEnded(previousLiveId, now);
+            }
+            if (liveId != null) {
+                viewerSeriesService.record(liveId, now, content.getConcurrentUserCount());
+            }
+        } catch (Exception e) {
+            // Silent fail
+        }
+        state.lastLiveId = liveId;
+    }
+
+    // CLOSE→OPEN 전환을 감지한 즉시 아웃박스에 적재해 다음 정기 점검까지 기다리지 않는다
+    private void recordStreamStartNow(LiveStatusContentVO content) {
+        if (content.getLiveId() == null) return;
+        try {
+            if (notificationOutboxService.claimStreamStart(content)) {
+                fastPathRecords.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // 실패하면 트랜잭션이 롤백되므로 StreamCheckScheduler의 정기 점검에서 다시 적재된다
         }
     }
 
     @Override
     public boolean isCurrentlyLive() {
-        LiveStatusContentVO liveStatus = getLiveStatus();
+        return isCurrentlyLive(channelRegistry.getDefaultChannelId());
+    }
+
+    @Override
+    public boolean isCurrentlyLive(String channelId) {
+        LiveStatusContentVO liveStatus = getLiveStatus(channelId);
         // liveStatus 객체 자체와 status 필드가 null인지 확인합니다.
         if (liveStatus == null || liveStatus.getStatus() == null) {
             return false;
@@ -106,24 +541,117 @@ public class StreamServiceImpl implements StreamService {
     }
 
     @Override
-    public boolean shouldSendNotification(String liveId) {
-        StreamVO stream = streamMapper.findByLiveId(liveId);
-        return stream == null || !stream.isNotificationSent();
+    public CompletableFuture<Boolean> isCurrentlyLiveAsync(String channelId) {
+        return getLiveStatusAsync(channelId).thenApply(liveStatus -> liveStatus != null && "OPEN".equals(liveStatus.getStatus()));
     }
 
     @Override
-    public void recordStreamStart(LiveStatusContentVO content) {
-        if (content == null) return;
-        StreamVO stream = new StreamVO();
-        stream.setLiveId(content.getLiveId());
-        stream.setTitle(content.getLiveTitle());
-        stream.setStartTime(new Date());
-        stream.setNotificationSent(false);
-        streamMapper.insertStream(stream);
+    public boolean isMonitored(String channelId) {
+        return channelRegistry.isRegistered(channelId);
     }
 
     @Override
-    public void markNotificationAsSent(String liveId) {
-        streamMapper.updateNotificationSent(liveId);
+    public long getLastPollSuccessAt(String channelId) {
+        ChannelState state = channelStates.get(channelId);
+        if (state == null) {
+            return 0;
+        }
+        // 팔로워는 리더의 마지막 폴링 성공 시각
+        LiveStateVO shared = sharedState(state);
+        return shared != null ? shared.getPolledAt() : state.snapshot.getLoadedAt();
+    }
+
+    @Override
+    public boolean isLiveStatusStale(String channelId) {
+        ChannelState state = channelStates.get(channelId);
+        if (state == null) {
+            return false;
+        }
+        LiveStateVO shared = sharedState(state);
+        return shared != null ? shared.isStale() : state.snapshot.isStale();
+    }
+
+    @Override
+    public long getPollIntervalMillis(String channelId) {
+        ChannelState state = channelStates.get(channelId);
+        if (state == null) {
+            return fastIntervalMillis;
+        }
+        LiveStateVO shared = sharedState(state);
+        return shared != null ? shared.getPollIntervalMillis() : state.intervalMillis;
+    }
+
+    private LiveStateVO sharedState(ChannelState state) {
+        return leaderElection.isLeader() ? null : state.shared;
+    }
+
+    @Override
+    public Map<String, Object> getPollerStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("channels", channelStates.size());
+        stats.put("cycles", pollCycles.get());
+        stats.put("lastCycleChannels", lastCycleChannels);
+        stats.put("lastCycleMillis", lastCycleMillis);
+        stats.put("maxCycleMillis", maxCycleMillis);
+        stats.put("fastPolls", fastPolls.get());
+        stats.put("slowPolls", slowPolls.get());
+        stats.put("fastPathRecords", fastPathRecords.get());
+        Map<String, Object> liveDetail = new LinkedHashMap<>();
+        liveDetail.put("cached", liveDetailCached.get());
+        liveDetail.put("parallel", liveDetailParallel.get());
+        liveDetail.put("sequential", liveDetailSequential.get());
+        liveDetail.put("refreshMillis", liveDetailRefreshMillis);
+        stats.put("liveDetail", liveDetail);
+        if (leaderElection.isEnabled()) {
+            Map<String, Object> shared = new LinkedHashMap<>();
+            shared.put("leader", leaderElection.isLeader());
+            shared.put("writes", sharedWrites.get());
+            shared.put("writeFailures", sharedWriteFailures.get());
+            shared.put("reads", sharedReads.get());
+            shared.put("readFailures", sharedReadFailures.get());
+            stats.put("shared", shared);
+        }
+        stats.put("threads", pollerThreads);
+        stats.put("jitterMillis", pollJitterMillis);
+        Map<String, Object> intervals = new LinkedHashMap<>();
+        for (ChannelState state : channelStates.values()) {
+            intervals.put(state.channelId, state.intervalMillis);
+        }
+        stats.put("intervalMillis", intervals);
+        return stats;
+    }
+
+    private class ChannelState {
+        private final String channelId;
+        private final LiveStatusSnapshot snapshot;
+        private volatile String lastLiveStatus = "CLOSE"; // 이전 방송 상태 저장
+        private volatile String lastLiveId; // 시청자 수를 기록 중인 방송
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile long intervalMillis = fastIntervalMillis;
+        private volatile long nextPollAt; // 0이면 다음 틱에 바로 폴링
+        private volatile LiveDetail liveDetail; // 진행 중인 방송의 썸네일 URL
+        private volatile LiveStateVO shared; // 팔로워: 리더가 마지막으로 기록한 행
+
+        ChannelState(String channelId) {
+            this.channelId = channelId;
+            this.snapshot = new LiveStatusSnapshot(channelId, () -> loadLiveStatus(this),
+                    liveStatusTtlMillis, liveStatusColdWaitMillis, pollExecutor);
+        }
+    }
+
+    private class LiveDetail {
+        private final String liveId;
+        private final String imageUrl;
+        private final long fetchedAt;
+
+        LiveDetail(String liveId, String imageUrl, long fetchedAt) {
+            this.liveId = liveId;
+            this.imageUrl = imageUrl;
+            this.fetchedAt = fetchedAt;
+        }
+
+        boolean isDue() {
+            return System.currentTimeMillis() - fetchedAt >= liveDetailRefreshMillis;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,360 @@
+package com.foririon.project.service.impl;
+
+import com.foririon.project.config.MetricsRegistry;
+import com.foririon.project.service.ThumbnailService;
+import com.foririon.project.service.image.CachedImage;
+import com.foririon.project.service.image.DiskImageCache;
+import com.foririon.project.service.image.ThumbnailImages;
+import com.foririon.project.service.image.ThumbnailSize;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 썸네일 프록시.
+ * 이미지는 처음 요청될 때 한 번 받아 원본/중간/작은 크기를 모두 디스크 캐시에 저장하고, 이후에는 캐시에서만 응답한다.
+ * 방송 썸네일은 URL이 같아도 내용이 바뀌므로 채널 단위로 저장하고, 폴러가 상태를 갱신할 때 백그라운드에서 다시 받는다.
+ */
+@Service
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final String LIVE_KEY_PREFIX = "live:";
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    // 비우면 java.io.tmpdir/for-irion-images
+    @Value("${images.cache-dir:}")
+    private String cacheDir;
+
+    @Value("${images.cache-max-mb:256}")
+    private long cacheMaxMegabytes;
+
+    // 이 호스트(또는 하위 도메인)의 이미지만 프록시
+    @Value("${images.allowed-hosts:pstatic.net,akamaized.net,naver.net}")
+    private String allowedHostsProperty;
+
+    @Value("${images.fetch-timeout-ms:5000}")
+    private int fetchTimeoutMillis;
+
+    @Value("${images.max-image-bytes:5242880}")
+    private int maxImageBytes;
+
+    // 받지 못한 URL은 이 시간 동안 다시 요청하지 않는다
+    @Value("${images.failure-backoff-ms:60000}")
+    private long failureBackoffMillis;
+
+    // 빠른 폴링(5초)마다 다시 받지 않도록 방송 썸네일 갱신 최소 간격
+    @Value("${images.live-refresh-min-ms:30000}")
+    private long liveRefreshMinMillis;
+
+    @Value("${images.fetch-threads:2}")
+    private int fetchThreads;
+
+    private DiskImageCache cache;
+    private CloseableHttpClient httpClient;
+    private ThreadPoolExecutor liveRefreshExecutor;
+    private List<String> allowedHosts;
+
+    // 같은 이미지를 동시에 처음 요청하면 한 요청만 받아 온다
+    private final ConcurrentMap<String, CompletableFuture<Map<ThumbnailSize, CachedImage>>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> failedAt = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> liveRefreshedAt = new ConcurrentHashMap<>();
+    private final Set<String> liveRefreshing = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong fetchSuccesses = new AtomicLong();
+    private final AtomicLong fetchFailures = new AtomicLong();
+    private final AtomicLong backoffRejects = new AtomicLong();
+    private final AtomicLong regenerated = new AtomicLong();
+    private final AtomicLong liveRefreshes = new AtomicLong();
+    private final AtomicLong liveRefreshFailures = new AtomicLong();
+    private final AtomicLong liveRefreshSkips = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        String dir = cacheDir.isEmpty() ? Paths.get(System.getProperty("java.io.tmpdir"), "for-irion-images").toString() : cacheDir;
+        cache = new DiskImageCache(Paths.get(dir), cacheMaxMegabytes * 1024 * 1024);
+
+        allowedHosts = new ArrayList<>();
+        for (String host : allowedHostsProperty.split(",")) {
+            if (!host.trim().isEmpty()) {
+                allowedHosts.add(host.trim().toLowerCase());
+            }
+        }
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(fetchTimeoutMillis)
+                .setConnectionRequestTimeout(fetchTimeoutMillis)
+                .setSocketTimeout(fetchTimeoutMillis)
+                .build();
+        // 허용 호스트 밖으로 나가지 않도록 리다이렉트는 따라가지 않는다
+        httpClient = HttpClients.custom()
+                .setDefaultRequestConfig(requestConfig)
+                .setMaxConnTotal(fetchThreads * 4)
+                .setMaxConnPerRoute(fetchThreads * 4)
+                .setUserAgent("Mozilla/5.0")
+                .disableRedirectHandling()
+                .disableCookieManagement()
+                .build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        liveRefreshExecutor = new ThreadPoolExecutor(fetchThreads, fetchThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(64), r -> {
+                    Thread thread = new Thread(r, "image-fetch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        metricsRegistry.register(scrape -> {
+            scrape.gauge("image_cache_bytes", "Bytes stored in the thumbnail disk cache", cache.getTotalBytes());
+            scrape.gauge("image_cache_entries", "Files in the thumbnail disk cache", cache.getEntryCount());
+            scrape.counter("image_cache_requests_total", "Thumbnail cache lookups", cache.getHits(), "result", "hit");
+            scrape.counter("image_cache_requests_total", "Thumbnail cache lookups", cache.getMisses(), "result", "miss");
+            scrape.counter("image_cache_evictions_total", "Thumbnail files evicted by the size limit", cache.getEvictions());
+            scrape.counter("image_fetches_total", "Thumbnail downloads from the image CDN", fetchSuccesses.get(), "outcome", "ok");
+            scrape.counter("image_fetches_total", "Thumbnail downloads from the image CDN", fetchFailures.get(), "outcome", "error");
+            scrape.counter("image_live_refreshes_total", "Live thumbnail refreshes", liveRefreshes.get(), "outcome", "ok");
+            scrape.counter("image_live_refreshes_total", "Live thumbnail refreshes", liveRefreshFailures.get(), "outcome", "error");
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        liveRefreshExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    @Override
+    public boolean isAllowed(String url) {
+        if (url == null) {
+            return false;
+        }
+        try {
+            URI uri = new URI(url);
+            String host = uri.getHost();
+            if (host == null || !("https".equalsIgnoreCase(uri.getScheme()) || "http".equalsIgnoreCase(uri.getScheme()))) {
+                return false;
+            }
+            host = host.toLowerCase();
+            for (String allowed : allowedHosts) {
+                if (host.equals(allowed) || host.endsWith("." + allowed)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public CachedImage getImage(String url, ThumbnailSize size) throws IOException {
+        if (!isAllowed(url)) {
+            throw new IllegalArgumentException("Image host not allowed: " + url);
+        }
+        CachedImage image = cache.get(key(url, size));
+        if (image != null) {
+            return image;
+        }
+
+        // 크기별 파일만 밀려났으면 원본에서 다시 만든다
+        if (size != ThumbnailSize.ORIGINAL) {
+            CachedImage original = cache.get(key(url, ThumbnailSize.ORIGINAL));
+            if (original != null) {
+                regenerated.incrementAndGet();
+                return store(url, bytes(original.getData())).get(size);
+            }
+        }
+        return fetchOnce(url).get(size);
+    }
+
+    private Map<ThumbnailSize, CachedImage> fetchOnce(String url) throws IOException {
+        CompletableFuture<Map<ThumbnailSize, CachedImage>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<ThumbnailSize, CachedImage>> existing = inFlight.putIfAbsent(url, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            Long failed = failedAt.get(url);
+            if (failed != null && System.currentTimeMillis() - failed < failureBackoffMillis) {
+                backoffRejects.incrementAndGet();
+                throw new IOException("Image fetch recently failed: " + url);
+            }
+            Map<ThumbnailSize, CachedImage> stored = store(url, download(url));
+            failedAt.remove(url);
+            mine.complete(stored);
+            return stored;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(url, mine);
+        }
+    }
+
+    private Map<ThumbnailSize, CachedImage> await(CompletableFuture<Map<ThumbnailSize, CachedImage>> future) throws IOException {
+        try {
+            return future.get(fetchTimeoutMillis * 2L, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for image fetch", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public CachedImage getLiveImage(String channelId, ThumbnailSize size) {
+        return cache.get(key(LIVE_KEY_PREFIX + channelId, size));
+    }
+
+    @Override
+    public void refreshLive(String channelId, String url) {
+        if (!isAllowed(url)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long last = liveRefreshedAt.get(channelId);
+        if ((last != null && now - last < liveRefreshMinMillis) || !liveRefreshing.add(channelId)) {
+            return;
+        }
+        try {
+            liveRefreshExecutor.execute(() -> {
+                try {
+                    store(LIVE_KEY_PREFIX + channelId, download(url));
+                    liveRefreshedAt.put(channelId, System.currentTimeMillis());
+                    liveRefreshes.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    // 이전 썸네일을 계속 제공하고 다음 폴링 때 다시 시도
+                    liveRefreshFailures.incrementAndGet();
+                } finally {
+                    liveRefreshing.remove(channelId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            liveRefreshing.remove(channelId);
+            liveRefreshSkips.incrementAndGet();
+        }
+    }
+
+    private Map<ThumbnailSize, CachedImage> store(String source, byte[] original) throws IOException {
+        Map<ThumbnailSize, CachedImage> stored = new LinkedHashMap<>();
+        for (Map.Entry<ThumbnailSize, byte[]> variant : ThumbnailImages.variants(original).entrySet()) {
+            stored.put(variant.getKey(), cache.put(key(source, variant.getKey()), variant.getValue()));
+        }
+        return stored;
+    }
+
+    private byte[] download(String url) throws IOException {
+        fetches.incrementAndGet();
+        boolean ok = false;
+        try (CloseableHttpResponse response = httpClient.execute(new HttpGet(url))) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            if (statusCode != 200 || entity == null) {
+                throw new IOException("Image fetch returned HTTP " + statusCode + ": " + url);
+            }
+            Header contentType = entity.getContentType();
+            if (contentType == null || !contentType.getValue().toLowerCase().startsWith("image/")) {
+                throw new IOException("Not an image: " + url);
+            }
+            if (entity.getContentLength() > maxImageBytes) {
+                throw new IOException("Image too large: " + url);
+            }
+            try (InputStream in = entity.getContent()) {
+                byte[] data = readLimited(in, entity.getContentLength());
+                ok = true;
+                fetchSuccesses.incrementAndGet();
+                return data;
+            }
+        } finally {
+            if (!ok) {
+                fetchFailures.incrementAndGet();
+                if (failedAt.size() > 1000) {
+                    failedAt.clear();
+                }
+                failedAt.put(url, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private byte[] readLimited(InputStream in, long contentLength) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 64 * 1024);
+        byte[] buffer = new byte[16 * 1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > maxImageBytes) {
+                throw new IOException("Image too large");
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] bytes(ByteBuffer data) {
+        byte[] copy = new byte[data.remaining()];
+        data.duplicate().get(copy);
+        return copy;
+    }
+
+    private static String key(String source, ThumbnailSize size) {
+        return source + "|" + size.name();
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", cache.getEntryCount());
+        stats.put("bytes", cache.getTotalBytes());
+        stats.put("maxBytes", cache.getMaxBytes());
+        stats.put("hits", cache.getHits());
+        stats.put("misses", cache.getMisses());
+        stats.put("stores", cache.getStores());
+        stats.put("evictions", cache.getEvictions());
+        stats.put("fetches", fetches.get());
+        stats.put("fetchFailures", fetchFailures.get());
+        stats.put("backoffRejects", backoffRejects.get());
+        stats.put("regenerated", regenerated.get());
+        stats.put("liveRefreshes", liveRefreshes.get());
+        stats.put("liveRefreshFailures", liveRefreshFailures.get());
+        stats.put("liveRefreshSkips", liveRefreshSkips.get());
+        stats.put("allowedHosts", allowedHosts);
+        return stats;
+    }
+}
@@ -0,0 +1,282 @@
+package com.foririon.project.service.impl;
+
+import com.foririon.project.config.IoExecutor;
+import com.foririon.project.mapper.StreamMapper;
+import com.foririon.project.mapper.ViewerSampleMapper;
+import com.foririon.project.service.ViewerSeriesService;
+import com.foririon.project.service.viewers.ViewerRingBuffer;
+import com.foririon.project.service.viewers.ViewerSampleCodec;
+import com.foririon.project.vo.StreamVO;
+import com.foririon.project.vo.ViewerBucketVO;
+import com.foririon.project.vo.ViewerChunkVO;
+import com.foririon.project.vo.ViewerSeriesVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방송별 시청자 수 시계열.
+ * 폴링 샘플은 방송마다 링 버퍼에 쌓고, 주기적으로 델타 인코딩한 청크로 묶어 한 번의 INSERT로 저장한다.
+ */
+@Service
+public class ViewerSeriesServiceImpl implements ViewerSeriesService {
+
+    @Autowired
+    private ViewerSampleMapper viewerSampleMapper;
+
+    @Autowired
+    private StreamMapper streamMapper;
+
+    @Autowired
+    private IoExecutor ioExecutor;
+
+    @Value("${viewers.buffer-capacity:4096}")
+    private int bufferCapacity;
+
+    // VARBINARY(8192)에 여유 있게 들어가는 크기 (샘플당 최대 약 10바이트)
+    @Value("${viewers.chunk-samples:720}")
+    private int chunkSamples;
+
+    // 종료를 보지 못한 방송(재시작 등)의 빈 버퍼 정리 기준
+    @Value("${viewers.idle-evict-ms:600000}")
+    private long idleEvictMillis;
+
+    @Value("${viewers.max-buckets:1000}")
+    private int maxBuckets;
+
+    @Value("${viewers.min-bucket-ms:5000}")
+    private long minBucketMillis;
+
+    private final ConcurrentMap<String, ViewerRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    // 주기 저장과 종료 시 저장이 같은 샘플을 두 번 쓰지 않도록 직렬화
+    private final Object flushLock = new Object();
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong flushedSamples = new AtomicLong();
+    private final AtomicLong flushedChunks = new AtomicLong();
+    private final AtomicLong flushedBytes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong endedStreams = new AtomicLong();
+
+    @Override
+    public void record(String liveId, long time, int concurrentUserCount) {
+        buffers.computeIfAbsent(liveId, key -> new ViewerRingBuffer(bufferCapacity)).add(time, concurrentUserCount);
+        recorded.incrementAndGet();
+    }
+
+    @Override
+    public void streamEnded(String liveId, long endedAt) {
+        ViewerRingBuffer buffer = buffers.get(liveId);
+        if (buffer != null) {
+            synchronized (flushLock) {
+                if (write(Collections.singletonMap(liveId, buffer))) {
+                    buffers.remove(liveId, buffer);
+                }
+            }
+        }
+        streamMapper.updateEndTime(liveId, new Date(endedAt));
+        endedStreams.incrementAndGet();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${viewers.flush-ms:60000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        synchronized (flushLock) {
+            write(buffers);
+        }
+        for (Map.Entry<String, ViewerRingBuffer> entry : buffers.entrySet()) {
+            ViewerRingBuffer buffer = entry.getValue();
+            if (buffer.size() == 0 && now - buffer.getLastSampleAt() > idleEvictMillis) {
+                buffers.remove(entry.getKey(), buffer);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 버퍼의 샘플을 청크로 묶어 저장하고, 성공하면 저장한 만큼만 버퍼에서 제거
+    private boolean write(Map<String, ViewerRingBuffer> targets) {
+        List<ViewerChunkVO> chunks = new ArrayList<>();
+        Map<ViewerRingBuffer, ViewerRingBuffer.Samples> written = new LinkedHashMap<>();
+        for (Map.Entry<String, ViewerRingBuffer> entry : targets.entrySet()) {
+            ViewerRingBuffer.Samples samples = entry.getValue().peekAll();
+            if (samples.size() == 0) {
+                continue;
+            }
+            for (int from = 0; from < samples.size(); from += chunkSamples) {
+                chunks.add(toChunk(entry.getKey(), samples, from, Math.min(samples.size(), from + chunkSamples)));
+            }
+            written.put(entry.getValue(), samples);
+        }
+        if (chunks.isEmpty()) {
+            return true;
+        }
+
+        try {
+            viewerSampleMapper.insertChunks(chunks);
+        } catch (Exception e) {
+            // 버퍼에 남겨 두고 다음 주기에 다시 저장
+            flushFailures.incrementAndGet();
+            return false;
+        }
+        for (Map.Entry<ViewerRingBuffer, ViewerRingBuffer.Samples> entry : written.entrySet()) {
+            entry.getKey().discardThrough(entry.getValue());
+            flushedSamples.addAndGet(entry.getValue().size());
+        }
+        for (ViewerChunkVO chunk : chunks) {
+            flushedBytes.addAndGet(chunk.getPayload().length);
+        }
+        flushedChunks.addAndGet(chunks.size());
+        return true;
+    }
+
+    private ViewerChunkVO toChunk(String liveId, ViewerRingBuffer.Samples samples, int from, int to) {
+        long[] times = samples.getTimes();
+        int[] counts = samples.getCounts();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, counts[i]);
+            max = Math.max(max, counts[i]);
+        }
+        ViewerChunkVO chunk = new ViewerChunkVO();
+        chunk.setLiveId(liveId);
+        chunk.setStartAt(times[from]);
+        chunk.setEndAt(times[to - 1]);
+        chunk.setSampleCount(to - from);
+        chunk.setMinCount(min);
+        chunk.setMaxCount(max);
+        chunk.setPayload(ViewerSampleCodec.encode(times[from], times, counts, from, to));
+        return chunk;
+    }
+
+    @Override
+    public CompletableFuture<ViewerSeriesVO> getSeriesAsync(String liveId, int buckets) {
+        return ioExecutor.supply(() -> getSeries(liveId, buckets));
+    }
+
+    @Override
+    public ViewerSeriesVO getSeries(String liveId, int buckets) {
+        int bucketCount = Math.max(1, Math.min(buckets, maxBuckets));
+
+        // 저장된 청크 + 아직 버퍼에 있는 최근 샘플
+        List<ViewerRingBuffer.Samples> parts = new ArrayList<>();
+        for (ViewerChunkVO chunk : viewerSampleMapper.findChunks(liveId)) {
+            parts.add(ViewerSampleCodec.decode(chunk.getStartAt(), chunk.getSampleCount(), chunk.getPayload()));
+        }
+        ViewerRingBuffer buffer = buffers.get(liveId);
+        if (buffer != null) {
+            parts.add(buffer.peekAll());
+        }
+
+        int total = 0;
+        for (ViewerRingBuffer.Samples part : parts) {
+            total += part.size();
+        }
+        StreamVO stream = streamMapper.findByLiveId(liveId);
+        if (total == 0 && stream == null) {
+            return null;
+        }
+
+        long[] times = new long[total];
+        int[] counts = new int[total];
+        int n = 0;
+        for (ViewerRingBuffer.Samples part : parts) {
+            for (int i = 0; i < part.size(); i++) {
+                // 저장 직후 버퍼에서 제거되기 전이면 같은 샘플이 양쪽에 있을 수 있다 (시간순이므로 앞 샘플과 비교)
+                if (n > 0 && part.getTimes()[i] <= times[n - 1]) {
+                    continue;
+                }
+                times[n] = part.getTimes()[i];
+                counts[n] = part.getCounts()[i];
+                n++;
+            }
+        }
+
+        ViewerSeriesVO series = new ViewerSeriesVO();
+        series.setLiveId(liveId);
+        if (stream != null) {
+            series.setStartTime(stream.getStartTime());
+            series.setEndTime(stream.getEndTime());
+        }
+        series.setSampleCount(n);
+        series.setBuckets(toBuckets(times, counts, n, bucketCount, series));
+        return series;
+    }
+
+    private List<ViewerBucketVO> toBuckets(long[] times, int[] counts, int n, int bucketCount, ViewerSeriesVO series) {
+        List<ViewerBucketVO> result = new ArrayList<>();
+        if (n == 0) {
+            series.setBucketMillis(minBucketMillis);
+            return result;
+        }
+        long first = times[0];
+        long span = times[n - 1] - first + 1;
+        long bucketMillis = Math.max(minBucketMillis, (span + bucketCount - 1) / bucketCount);
+        series.setBucketMillis(bucketMillis);
+
+        ViewerBucketVO current = null;
+        long currentIndex = -1;
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            long index = (times[i] - first) / bucketMillis;
+            if (index != currentIndex) {
+                if (current != null) {
+                    current.setAvg((int) Math.round((double) sum / current.getSamples()));
+                }
+                current = new ViewerBucketVO();
+                current.setTime(first + index * bucketMillis);
+                current.setMin(counts[i]);
+                current.setMax(counts[i]);
+                result.add(current);
+                currentIndex = index;
+                sum = 0;
+            }
+            current.setMin(Math.min(current.getMin(), counts[i]));
+            current.setMax(Math.max(current.getMax(), counts[i]));
+            current.setSamples(current.getSamples() + 1);
+            sum += counts[i];
+        }
+        current.setAvg((int) Math.round((double) sum / current.getSamples()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        int buffered = 0;
+        long overwritten = 0;
+        for (ViewerRingBuffer buffer : buffers.values()) {
+            buffered += buffer.size();
+            overwritten += buffer.getOverwritten();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("streams", buffers.size());
+        stats.put("buffered", buffered);
+        stats.put("recorded", recorded.get());
+        stats.put("overwritten", overwritten);
+        stats.put("flushedSamples", flushedSamples.get());
+        stats.put("flushedChunks", flushedChunks.get());
+        stats.put("flushedBytes", flushedBytes.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("endedStreams", endedStreams.get());
+        return stats;
+    }
+}
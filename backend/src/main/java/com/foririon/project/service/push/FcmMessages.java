@@ -0,0 +1,58 @@
+package com.foririon.project.service.push;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 메시지 구성. 토픽/토큰/멀티캐스트 전송이 같은 알림·데이터 페이로드를 쓴다.
+ */
+public final class FcmMessages {
+
+    private FcmMessages() {
+    }
+
+    public static Message topic(String topic, String title, String body, String type) {
+        return Message.builder()
+                .setNotification(notification(title, body))
+                .putAllData(data(type))
+                .setTopic(topic)
+                .build();
+    }
+
+    public static Message token(String token, String title, String body, String type) {
+        return Message.builder()
+                .setNotification(notification(title, body))
+                .putAllData(data(type))
+                .setToken(token)
+                .build();
+    }
+
+    public static MulticastMessage multicast(List<String> tokens, Notification notification, Map<String, String> data) {
+        return MulticastMessage.builder()
+                .setNotification(notification)
+                .putAllData(data)
+                .addAllTokens(tokens)
+                .build();
+    }
+
+    // 알림 메시지 구성
+    public static Notification notification(String title, String body) {
+        return Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
+    }
+
+    // 데이터 페이로드 구성
+    public static Map<String, String> data(String type) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", type);
+        data.put("click_action", "FLUTTER_NOTIFICATION_CLICK");
+        return data;
+    }
+}
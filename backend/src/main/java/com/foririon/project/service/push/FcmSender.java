@@ -0,0 +1,75 @@
+package com.foririon.project.service.push;
+
+import com.foririon.project.config.MetricsRegistry;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 전송 호출을 한 곳으로 모아 호출 시간과 결과(FCM 오류 코드별)를 기록한다.
+ */
+@Component
+public class FcmSender {
+
+    private static final String DURATION = "fcm_send_duration_seconds";
+    private static final String DURATION_HELP = "FCM API call time by method and outcome";
+    private static final String MESSAGES = "fcm_messages_total";
+    private static final String MESSAGES_HELP = "FCM messages by delivery outcome (one per token for multicast)";
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    public String send(Message message) throws FirebaseMessagingException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            String messageId = FirebaseMessaging.getInstance().send(message);
+            outcome = "ok";
+            return messageId;
+        } catch (FirebaseMessagingException e) {
+            outcome = errorCode(e);
+            throw e;
+        } finally {
+            metricsRegistry.timer(DURATION, DURATION_HELP, "method", "send", "outcome", outcome).record(System.nanoTime() - start);
+            metricsRegistry.counter(MESSAGES, MESSAGES_HELP, "outcome", outcome).increment();
+        }
+    }
+
+    // 호출 자체의 결과와 별개로 토큰별 결과를 집계
+    public BatchResponse sendEachForMulticast(MulticastMessage message) throws FirebaseMessagingException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+            outcome = "ok";
+            for (SendResponse sendResponse : response.getResponses()) {
+                String result = sendResponse.isSuccessful() ? "ok" : errorCode(sendResponse.getException());
+                metricsRegistry.counter(MESSAGES, MESSAGES_HELP, "outcome", result).increment();
+            }
+            return response;
+        } catch (FirebaseMessagingException e) {
+            outcome = errorCode(e);
+            throw e;
+        } finally {
+            metricsRegistry.timer(DURATION, DURATION_HELP, "method", "multicast", "outcome", outcome).record(System.nanoTime() - start);
+        }
+    }
+
+    // UNREGISTERED 같은 FCM 오류 코드, 없으면 플랫폼 오류 코드 (소문자)
+    private static String errorCode(FirebaseMessagingException e) {
+        if (e == null) {
+            return "error";
+        }
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        if (code != null) {
+            return code.name().toLowerCase();
+        }
+        return e.getErrorCode() != null ? e.getErrorCode().name().toLowerCase() : "error";
+    }
+}
@@ -0,0 +1,324 @@
+package com.foririon.project.service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foririon.project.vo.LiveStatusContentVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라이브 상태 변경을 SSE 구독자에게 밀어주는 브로드캐스터.
+ * 연결은 서블릿 async로 유지되므로 대기 중인 구독자는 Tomcat 스레드를 점유하지 않는다.
+ * 이벤트는 변경 시 한 번만 직렬화하고, 최근 이벤트를 보관해 Last-Event-ID 재연결 시 놓친 이벤트를 다시 보낸다.
+ */
+@Component
+public class LiveStatusBroadcaster {
+
+    private static final String EVENT_NAME = "live-status";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${sse.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${sse.reconnect-ms:3000}")
+    private long reconnectMillis;
+
+    @Value("${sse.replay-buffer:256}")
+    private int replayBufferSize;
+
+    @Value("${sse.send-threads:4}")
+    private int sendThreads;
+
+    // 채널별 구독자
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    // 재시작 후에도 이벤트 ID가 줄어들지 않도록 기동 시각에서 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Deque<LiveStatusEvent> recentEvents = new ArrayDeque<>();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+
+    private ExecutorService sendExecutor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(sendThreads, r -> {
+            Thread thread = new Thread(r, "sse-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+        for (Set<Subscriber> channelSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : channelSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * 구독 등록. 연결 수 한도를 넘으면 null을 반환한다.
+     * lastEventId 이후 이벤트가 버퍼에 남아 있으면 그것만 다시 보내고, 아니면 현재 상태를 첫 이벤트로 보낸다.
+     */
+    public SseEmitter subscribe(String channelId, String lastEventId, LiveStatusContentVO current) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejected.incrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        Set<Subscriber> channelSubscribers = subscribers.computeIfAbsent(channelId, key -> ConcurrentHashMap.newKeySet());
+        // 이 시점 이후 발행된 이벤트는 등록 뒤 버퍼에서 다시 확인해 보낸다
+        long baseline = sequence.get();
+
+        // 첫 이벤트(놓친 이벤트 또는 현재 상태)를 publish에 보이기 전에 먼저 보내 더 새 이벤트보다 늦게 도착하지 않게 한다
+        List<LiveStatusEvent> missed = eventsAfter(channelId, lastEventId);
+        if (missed != null) {
+            replayed.addAndGet(missed.size());
+            for (LiveStatusEvent event : missed) {
+                send(subscriber, event);
+            }
+        } else {
+            LiveStatusEvent snapshot = latestEvent(channelId);
+            if (snapshot == null && current != null) {
+                snapshot = toEvent(channelId, current, baseline);
+            }
+            if (snapshot != null) {
+                send(subscriber, snapshot);
+            }
+        }
+
+        Runnable remove = () -> {
+            if (channelSubscribers.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        channelSubscribers.add(subscriber);
+
+        // 첫 이벤트를 보내는 동안 발행된 이벤트 (publish가 보낸 것과 겹치면 send에서 걸러진다)
+        for (LiveStatusEvent event : eventsSince(channelId, baseline)) {
+            send(subscriber, event);
+        }
+        return emitter;
+    }
+
+    // 폴러가 상태/제목/시청자 수 변경을 감지했을 때 호출
+    public void publish(String channelId, LiveStatusContentVO status) {
+        LiveStatusEvent event = toEvent(channelId, status, sequence.incrementAndGet());
+        if (event == null) {
+            return;
+        }
+        synchronized (recentEvents) {
+            recentEvents.addLast(event);
+            while (recentEvents.size() > replayBufferSize) {
+                recentEvents.removeFirst();
+            }
+        }
+        published.incrementAndGet();
+
+        Set<Subscriber> channelSubscribers = subscribers.get(channelId);
+        if (channelSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : channelSubscribers) {
+            try {
+                sendExecutor.execute(() -> send(subscriber, event));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                return;
+            }
+        }
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트 전송
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> channelSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : channelSubscribers) {
+                try {
+                    sendExecutor.execute(() -> {
+                        synchronized (subscriber) {
+                            try {
+                                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                            } catch (Exception e) {
+                                subscriber.emitter.completeWithError(e);
+                            }
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 구독자별로 한 번에 하나씩 보내고, 이미 보낸 것보다 오래된 이벤트는 버린다
+    // (이벤트마다 채널의 전체 상태를 담으므로 송신 스레드 간 순서가 뒤바뀌어도 최신 상태와 Last-Event-ID가 유지된다)
+    private void send(Subscriber subscriber, LiveStatusEvent event) {
+        synchronized (subscriber) {
+            if (event.id <= subscriber.lastSentId) {
+                return;
+            }
+            try {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.id))
+                        .name(EVENT_NAME)
+                        .reconnectTime(reconnectMillis)
+                        .data(event.json, MediaType.APPLICATION_JSON));
+                subscriber.lastSentId = event.id;
+                delivered.incrementAndGet();
+            } catch (Exception e) {
+                // 끊긴 연결은 onError에서 정리
+                subscriber.emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 버퍼가 lastEventId 직후부터 이어져 있을 때만 놓친 이벤트 목록을 반환
+    private List<LiveStatusEvent> eventsAfter(String channelId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return null;
+        }
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        List<LiveStatusEvent> missed = new ArrayList<>();
+        synchronized (recentEvents) {
+            LiveStatusEvent oldest = recentEvents.peekFirst();
+            if (oldest == null || lastId < oldest.id - 1 || lastId > sequence.get()) {
+                return null;
+            }
+            for (LiveStatusEvent event : recentEvents) {
+                if (event.id > lastId && event.channelId.equals(channelId)) {
+                    missed.add(event);
+                }
+            }
+        }
+        return missed;
+    }
+
+    private List<LiveStatusEvent> eventsSince(String channelId, long afterId) {
+        List<LiveStatusEvent> events = new ArrayList<>();
+        synchronized (recentEvents) {
+            for (LiveStatusEvent event : recentEvents) {
+                if (event.id > afterId && event.channelId.equals(channelId)) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    // 초기 스냅샷은 해당 채널의 마지막 이벤트를 그대로 보내 재연결 시 중복 전송을 피한다
+    // (스냅샷 값은 이벤트 발행 뒤에 갱신되므로 마지막 이벤트가 더 최신일 수 있음)
+    private LiveStatusEvent latestEvent(String channelId) {
+        synchronized (recentEvents) {
+            Iterator<LiveStatusEvent> it = recentEvents.descendingIterator();
+            while (it.hasNext()) {
+                LiveStatusEvent event = it.next();
+                if (event.channelId.equals(channelId)) {
+                    return event;
+                }
+            }
+        }
+        return null;
+    }
+
+    private LiveStatusEvent toEvent(String channelId, LiveStatusContentVO status, long id) {
+        try {
+            return new LiveStatusEvent(id, channelId, objectMapper.writeValueAsString(status));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // 브로드캐스트 대상이 되는 변경인지 (상태, 제목, 시청자 수)
+    public static boolean isChanged(LiveStatusContentVO previous, LiveStatusContentVO current) {
+        if (current == null) {
+            return false;
+        }
+        if (previous == null) {
+            return true;
+        }
+        return !Objects.equals(previous.getStatus(), current.getStatus())
+                || !Objects.equals(previous.getLiveTitle(), current.getLiveTitle())
+                || previous.getConcurrentUserCount() != current.getConcurrentUserCount();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connections", connections.get());
+        stats.put("maxConnections", maxConnections);
+        stats.put("channels", subscribers.size());
+        stats.put("published", published.get());
+        stats.put("delivered", delivered.get());
+        stats.put("replayed", replayed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("lastEventId", sequence.get());
+        return stats;
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private long lastSentId = Long.MIN_VALUE; // this로 동기화
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static class LiveStatusEvent {
+        private final long id;
+        private final String channelId;
+        private final String json;
+
+        LiveStatusEvent(long id, String channelId, String json) {
+            this.id = id;
+            this.channelId = channelId;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.foririon.project.service.registration;
+
+import com.foririon.project.mapper.NotificationMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 토큰 등록 write-behind 버퍼.
+ * 이미 저장한 토큰은 메모리 집합에서 바로 걸러내고, 새 토큰만 모아 flush-interval-ms 또는 batch-size마다
+ * 여러 행 INSERT IGNORE 한 번으로 저장한다. 요청 스레드는 큐에 넣고 바로 반환한다.
+ */
+@Component
+public class TokenRegistrationBuffer {
+
+    private static final int MAX_TOKEN_LENGTH = 255;
+
+    @Autowired
+    private NotificationMapper notificationMapper;
+
+    @Value("${fcm.tokens.flush-interval-ms:500}")
+    private long flushIntervalMillis;
+
+    @Value("${fcm.tokens.batch-size:500}")
+    private int batchSize;
+
+    @Value("${fcm.tokens.max-pending:50000}")
+    private int maxPending;
+
+    // 넘치면 통째로 비운다 (다음 등록 때 한 번 더 INSERT IGNORE 될 뿐이라 정확성에는 영향 없음)
+    @Value("${fcm.tokens.known-capacity:200000}")
+    private int knownCapacity;
+
+    private final Set<String> knownTokens = ConcurrentHashMap.newKeySet();
+    private BlockingQueue<PendingToken> pending;
+    private Thread flusher;
+    private volatile boolean running = true;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong flushedTokens = new AtomicLong();
+    private final AtomicLong insertedRows = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long maxFlushNanos;
+    private volatile int maxBatchSize;
+    private volatile long maxQueueDelayMillis;
+
+    @PostConstruct
+    public void start() {
+        pending = new LinkedBlockingQueue<>(maxPending);
+        flusher = new Thread(this::runFlusher, "token-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(5000);
+        // 남은 토큰은 종료 전에 저장
+        List<PendingToken> rest = new ArrayList<>();
+        pending.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            flush(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+        }
+    }
+
+    // 새 토큰이면 큐에 넣고 true, 이미 아는 토큰이거나 큐가 가득 차면 false
+    public boolean register(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        if (knownTokens.contains(token)) {
+            duplicates.incrementAndGet();
+            return false;
+        }
+        if (knownTokens.size() >= knownCapacity) {
+            knownTokens.clear();
+        }
+        if (!knownTokens.add(token)) {
+            duplicates.incrementAndGet();
+            return false;
+        }
+        if (!pending.offer(new PendingToken(token, System.currentTimeMillis()))) {
+            // 앱이 다음 실행 때 다시 등록하면 그때 저장된다
+            knownTokens.remove(token);
+            dropped.incrementAndGet();
+            return false;
+        }
+        accepted.incrementAndGet();
+        return true;
+    }
+
+    private void runFlusher() {
+        List<PendingToken> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingToken first = pending.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingToken next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingToken> batch) {
+        List<String> tokens = new ArrayList<>(batch.size());
+        for (PendingToken token : batch) {
+            tokens.add(token.token);
+        }
+        // 여러 노드가 동시에 넣어도 같은 순서로 잠그도록 정렬
+        Collections.sort(tokens);
+
+        long start = System.nanoTime();
+        try {
+            int inserted = notificationMapper.insertTokens(tokens);
+            insertedRows.addAndGet(inserted);
+            flushedTokens.addAndGet(tokens.size());
+        } catch (Exception e) {
+            // 저장하지 못한 토큰은 다음 등록 요청에서 다시 받도록 known에서 제거
+            flushFailures.incrementAndGet();
+            knownTokens.removeAll(tokens);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsed);
+        maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+        maxBatchSize = Math.max(maxBatchSize, batch.size());
+        maxQueueDelayMillis = Math.max(maxQueueDelayMillis, System.currentTimeMillis() - batch.get(0).enqueuedAt);
+    }
+
+    public Map<String, Object> getStats() {
+        long flushCount = flushes.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("accepted", accepted.get());
+        stats.put("duplicates", duplicates.get());
+        stats.put("dropped", dropped.get());
+        stats.put("pending", pending.size());
+        stats.put("knownTokens", knownTokens.size());
+        stats.put("flushes", flushCount);
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("flushedTokens", flushedTokens.get());
+        stats.put("insertedRows", insertedRows.get());
+        stats.put("avgBatchSize", flushCount == 0 ? 0 : flushedTokens.get() / (double) flushCount);
+        stats.put("maxBatchSize", maxBatchSize);
+        stats.put("avgFlushMillis", flushCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalFlushNanos.get() / flushCount));
+        stats.put("maxFlushMillis", TimeUnit.NANOSECONDS.toMillis(maxFlushNanos));
+        stats.put("maxQueueDelayMillis", maxQueueDelayMillis);
+        return stats;
+    }
+
+    private static class PendingToken {
+        private final String token;
+        private final long enqueuedAt;
+
+        PendingToken(String token, long enqueuedAt) {
+            this.token = token;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.foririon.project.service.viewers;
+
+/**
+ * 방송 하나의 아직 저장하지 않은 시청자 수 샘플.
+ * 고정 크기 배열이라 DB 저장이 계속 실패해도 메모리는 늘지 않고 가장 오래된 샘플부터 덮어쓴다.
+ */
+public class ViewerRingBuffer {
+
+    private final long[] times;
+    private final int[] counts;
+    private int head; // 가장 오래된 샘플 위치
+    private int size;
+    private long added; // 지금까지 추가된 샘플 수 (peekAll 이후 추가분을 구분하는 용도)
+    private long overwritten;
+    private volatile long lastSampleAt;
+
+    public ViewerRingBuffer(int capacity) {
+        this.times = new long[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public synchronized void add(long time, int count) {
+        int index = (head + size) % times.length;
+        times[index] = time;
+        counts[index] = count;
+        if (size < times.length) {
+            size++;
+        } else {
+            head = (head + 1) % times.length;
+            overwritten++;
+        }
+        added++;
+        lastSampleAt = time;
+    }
+
+    // 오래된 순서로 복사 (저장에 성공하면 discardThrough로 제거)
+    public synchronized Samples peekAll() {
+        long[] t = new long[size];
+        int[] c = new int[size];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % times.length;
+            t[i] = times[index];
+            c[i] = counts[index];
+        }
+        return new Samples(t, c, added);
+    }
+
+    // peekAll로 복사한 샘플까지 제거. 그 사이 추가된 샘플은 남기고, 덮어써진 샘플은 이미 없다
+    public synchronized void discardThrough(Samples samples) {
+        long newer = added - samples.added;
+        int removed = (int) Math.max(0, size - newer);
+        head = (head + removed) % times.length;
+        size -= removed;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getOverwritten() {
+        return overwritten;
+    }
+
+    public long getLastSampleAt() {
+        return lastSampleAt;
+    }
+
+    public static class Samples {
+        private final long[] times;
+        private final int[] counts;
+        private final long added;
+
+        public Samples(long[] times, int[] counts) {
+            this(times, counts, 0);
+        }
+
+        private Samples(long[] times, int[] counts, long added) {
+            this.times = times;
+            this.counts = counts;
+            this.added = added;
+        }
+
+        public long[] getTimes() {
+            return times;
+        }
+
+        public int[] getCounts() {
+            return counts;
+        }
+
+        public int size() {
+            return times.length;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.foririon.project.service.viewers;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 시청자 수 샘플 묶음의 델타 인코딩.
+ * 각 샘플을 (이전 샘플과의 시간 차, 시청자 수 차)의 zigzag varint로 저장한다.
+ * 첫 샘플의 시간 기준은 청크의 start_at, 시청자 수 기준은 0이다.
+ * 5초 간격, 변화가 작은 시청자 수면 샘플당 보통 2~3바이트.
+ */
+public final class ViewerSampleCodec {
+
+    private ViewerSampleCodec() {
+    }
+
+    public static byte[] encode(long startAt, long[] times, int[] counts, int from, int to) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((to - from) * 3);
+        long previousTime = startAt;
+        long previousCount = 0;
+        for (int i = from; i < to; i++) {
+            writeVarLong(out, zigzag(times[i] - previousTime));
+            writeVarLong(out, zigzag(counts[i] - previousCount));
+            previousTime = times[i];
+            previousCount = counts[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static ViewerRingBuffer.Samples decode(long startAt, int sampleCount, byte[] payload) {
+        long[] times = new long[sampleCount];
+        int[] counts = new int[sampleCount];
+        int[] position = {0};
+        long previousTime = startAt;
+        long previousCount = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            previousTime += unzigzag(readVarLong(payload, position));
+            previousCount += unzigzag(readVarLong(payload, position));
+            times[i] = previousTime;
+            counts[i] = (int) previousCount;
+        }
+        return new ViewerRingBuffer.Samples(times, counts);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] in, int[] position) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.foririon.project.vo;
+
+public class DeviceVO {
+
+    private int id;
+    private String fcmToken;
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+    public String getFcmToken() { return fcmToken; }
+    public void setFcmToken(String fcmToken) { this.fcmToken = fcmToken; }
+}
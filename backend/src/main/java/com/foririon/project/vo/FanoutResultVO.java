@@ -0,0 +1,24 @@
+package com.foririon.project.vo;
+
+public class FanoutResultVO {
+
+    private int totalTokens;
+    private int batches;
+    private int successCount;
+    private int failureCount;
+    private int deactivatedCount;
+    private long elapsedMillis;
+
+    public int getTotalTokens() { return totalTokens; }
+    public void setTotalTokens(int totalTokens) { this.totalTokens = totalTokens; }
+    public int getBatches() { return batches; }
+    public void setBatches(int batches) { this.batches = batches; }
+    public int getSuccessCount() { return successCount; }
+    public void setSuccessCount(int successCount) { this.successCount = successCount; }
+    public int getFailureCount() { return failureCount; }
+    public void setFailureCount(int failureCount) { this.failureCount = failureCount; }
+    public int getDeactivatedCount() { return deactivatedCount; }
+    public void setDeactivatedCount(int deactivatedCount) { this.deactivatedCount = deactivatedCount; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,71 @@
+package com.foririon.project.vo;
+
+// 리더가 기록한 채널별 현재 라이브 상태 (live_states 한 행)
+public class LiveStateVO {
+
+    private String channelId;
+    private String liveId;
+    private String liveTitle;
+    private String status;
+    private int concurrentUserCount;
+    private String openDate;
+    private String liveImageUrl;
+    private long polledAt;
+    private boolean stale;
+    private long pollIntervalMillis;
+    private String leaderId;
+    private long updatedAt;
+
+    public static LiveStateVO of(LiveStatusContentVO content, long polledAt, long pollIntervalMillis, String leaderId) {
+        LiveStateVO state = new LiveStateVO();
+        state.channelId = content.getChannelId();
+        state.liveId = content.getLiveId();
+        state.liveTitle = content.getLiveTitle();
+        state.status = content.getStatus();
+        state.concurrentUserCount = content.getConcurrentUserCount();
+        state.openDate = content.getOpenDate();
+        state.liveImageUrl = content.getLiveImageUrl();
+        state.polledAt = polledAt;
+        state.pollIntervalMillis = pollIntervalMillis;
+        state.leaderId = leaderId;
+        state.updatedAt = polledAt;
+        return state;
+    }
+
+    public LiveStatusContentVO toContent() {
+        LiveStatusContentVO content = new LiveStatusContentVO();
+        content.setChannelId(channelId);
+        content.setLiveId(liveId);
+        content.setLiveTitle(liveTitle);
+        content.setStatus(status);
+        content.setConcurrentUserCount(concurrentUserCount);
+        content.setOpenDate(openDate);
+        content.setLiveImageUrl(liveImageUrl);
+        return content;
+    }
+
+    public String getChannelId() { return channelId; }
+    public void setChannelId(String channelId) { this.channelId = channelId; }
+    public String getLiveId() { return liveId; }
+    public void setLiveId(String liveId) { this.liveId = liveId; }
+    public String getLiveTitle() { return liveTitle; }
+    public void setLiveTitle(String liveTitle) { this.liveTitle = liveTitle; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public int getConcurrentUserCount() { return concurrentUserCount; }
+    public void setConcurrentUserCount(int concurrentUserCount) { this.concurrentUserCount = concurrentUserCount; }
+    public String getOpenDate() { return openDate; }
+    public void setOpenDate(String openDate) { this.openDate = openDate; }
+    public String getLiveImageUrl() { return liveImageUrl; }
+    public void setLiveImageUrl(String liveImageUrl) { this.liveImageUrl = liveImageUrl; }
+    public long getPolledAt() { return polledAt; }
+    public void setPolledAt(long polledAt) { this.polledAt = polledAt; }
+    public boolean isStale() { return stale; }
+    public void setStale(boolean stale) { this.stale = stale; }
+    public long getPollIntervalMillis() { return pollIntervalMillis; }
+    public void setPollIntervalMillis(long pollIntervalMillis) { this.pollIntervalMillis = pollIntervalMillis; }
+    public String getLeaderId() { return leaderId; }
+    public void setLeaderId(String leaderId) { this.leaderId = leaderId; }
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+}
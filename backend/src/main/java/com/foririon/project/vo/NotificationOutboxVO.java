@@ -0,0 +1,44 @@
+package com.foririon.project.vo;
+
+import java.util.Date;
+
+public class NotificationOutboxVO {
+
+    private Long id;
+    private String idempotencyKey; // 예: live_start:{liveId}
+    private String type;
+    private String liveId;
+    private String topic;
+    private String title;
+    private String body;
+    private String status; // PENDING, SENT, FAILED
+    private int attempts;
+    private Date nextAttemptAt;
+    private Date createdAt;
+    private Date sentAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getLiveId() { return liveId; }
+    public void setLiveId(String liveId) { this.liveId = liveId; }
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getBody() { return body; }
+    public void setBody(String body) { this.body = body; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public Date getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Date nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public Date getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
+    public Date getSentAt() { return sentAt; }
+    public void setSentAt(Date sentAt) { this.sentAt = sentAt; }
+}
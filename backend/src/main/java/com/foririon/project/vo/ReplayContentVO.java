@@ -5,8 +5,20 @@ import java.util.List;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class ReplayContentVO {
+    private int page;
+    private int size;
+    private int totalCount;
+    private int totalPages;
     private List<ReplayVO> data;
 
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public int getTotalCount() { return totalCount; }
+    public void setTotalCount(int totalCount) { this.totalCount = totalCount; }
+    public int getTotalPages() { return totalPages; }
+    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
     public List<ReplayVO> getData() { return data; }
     public void setData(List<ReplayVO> data) { this.data = data; }
 }
\ No newline at end of file
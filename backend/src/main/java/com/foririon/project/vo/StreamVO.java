@@ -6,6 +6,7 @@ public class StreamVO {
 
     private Long id;
     private String liveId;
+    private String channelId;
     private String title;
     private Date startTime;
     private Date endTime;
@@ -28,6 +29,14 @@ public class StreamVO {
         this.liveId = liveId;
     }
 
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public void setChannelId(String channelId) {
+        this.channelId = channelId;
+    }
+
     public String getTitle() {
         return title;
     }
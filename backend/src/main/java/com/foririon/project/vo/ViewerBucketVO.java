@@ -0,0 +1,22 @@
+package com.foririon.project.vo;
+
+// 차트용 시청자 수 구간 (time: 구간 시작 시각 epoch ms)
+public class ViewerBucketVO {
+
+    private long time;
+    private int min;
+    private int max;
+    private int avg;
+    private int samples;
+
+    public long getTime() { return time; }
+    public void setTime(long time) { this.time = time; }
+    public int getMin() { return min; }
+    public void setMin(int min) { this.min = min; }
+    public int getMax() { return max; }
+    public void setMax(int max) { this.max = max; }
+    public int getAvg() { return avg; }
+    public void setAvg(int avg) { this.avg = avg; }
+    public int getSamples() { return samples; }
+    public void setSamples(int samples) { this.samples = samples; }
+}
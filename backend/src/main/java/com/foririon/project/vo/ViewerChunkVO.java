@@ -0,0 +1,31 @@
+package com.foririon.project.vo;
+
+// 델타 인코딩된 시청자 수 샘플 묶음 (stream_viewer_chunks 한 행)
+public class ViewerChunkVO {
+
+    private Long id;
+    private String liveId;
+    private long startAt;
+    private long endAt;
+    private int sampleCount;
+    private int minCount;
+    private int maxCount;
+    private byte[] payload;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getLiveId() { return liveId; }
+    public void setLiveId(String liveId) { this.liveId = liveId; }
+    public long getStartAt() { return startAt; }
+    public void setStartAt(long startAt) { this.startAt = startAt; }
+    public long getEndAt() { return endAt; }
+    public void setEndAt(long endAt) { this.endAt = endAt; }
+    public int getSampleCount() { return sampleCount; }
+    public void setSampleCount(int sampleCount) { this.sampleCount = sampleCount; }
+    public int getMinCount() { return minCount; }
+    public void setMinCount(int minCount) { this.minCount = minCount; }
+    public int getMaxCount() { return maxCount; }
+    public void setMaxCount(int maxCount) { this.maxCount = maxCount; }
+    public byte[] getPayload() { return payload; }
+    public void setPayload(byte[] payload) { this.payload = payload; }
+}
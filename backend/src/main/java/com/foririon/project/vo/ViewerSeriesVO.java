@@ -0,0 +1,34 @@
+package com.foririon.project.vo;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.Date;
+import java.util.List;
+
+public class ViewerSeriesVO {
+
+    private String liveId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    private Date startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    private Date endTime;
+
+    private int sampleCount;
+    private long bucketMillis;
+    private List<ViewerBucketVO> buckets;
+
+    public String getLiveId() { return liveId; }
+    public void setLiveId(String liveId) { this.liveId = liveId; }
+    public Date getStartTime() { return startTime; }
+    public void setStartTime(Date startTime) { this.startTime = startTime; }
+    public Date getEndTime() { return endTime; }
+    public void setEndTime(Date endTime) { this.endTime = endTime; }
+    public int getSampleCount() { return sampleCount; }
+    public void setSampleCount(int sampleCount) { this.sampleCount = sampleCount; }
+    public long getBucketMillis() { return bucketMillis; }
+    public void setBucketMillis(long bucketMillis) { this.bucketMillis = bucketMillis; }
+    public List<ViewerBucketVO> getBuckets() { return buckets; }
+    public void setBuckets(List<ViewerBucketVO> buckets) { this.buckets = buckets; }
+}
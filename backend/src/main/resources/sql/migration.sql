@@ -0,0 +1,16 @@
+-- 기존 DB 업그레이드용 변경 사항 (새로 설치할 때는 schema.sql만 적용하면 됨)
+-- 배포 전에 아직 적용하지 않은 항목을 위에서부터 순서대로 한 번씩 실행
+-- 새로 추가된 테이블(channels, notification_outbox 등)은 schema.sql의 해당 CREATE TABLE 문을 그대로 실행
+
+-- 기기 토큰 멀티캐스트 전송: 활성 토큰을 id 순으로 페이지 조회
+ALTER TABLE devices
+    ADD INDEX idx_devices_active_id (is_active, id);
+
+-- 여러 채널 모니터링: 방송 기록에 채널 ID (기존 행은 NULL = 기본 채널)
+ALTER TABLE streams
+    ADD COLUMN channel_id VARCHAR(64) COMMENT '방송 채널 ID' AFTER live_id;
+
+-- 일정 메모리 인덱스: 변경 감지용 updated_at과 시작 시간 범위 조회 인덱스
+ALTER TABLE stream_schedules
+    ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '변경 감지용 (메모리 인덱스 갱신)' AFTER created_at,
+    ADD INDEX idx_schedules_cancelled_start (is_cancelled, scheduled_start_time);
@@ -4,13 +4,23 @@ CREATE TABLE devices (
                          fcm_token VARCHAR(255) NOT NULL UNIQUE COMMENT 'FCM에서 발급하는 기기 고유 토큰',
                          is_active BOOLEAN DEFAULT TRUE COMMENT '알림 수신 활성 여부',
                          created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '토큰 등록일',
-                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 업데이트일'
+                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 업데이트일',
+                         INDEX idx_devices_active_id (is_active, id)
 ) COMMENT '알림을 수신할 기기 목록';
 
+-- 모니터링 채널 목록 (chzzk.channel.id 기본 채널은 항상 포함)
+CREATE TABLE channels (
+                          channel_id VARCHAR(64) PRIMARY KEY COMMENT '치지직 채널 ID',
+                          channel_name VARCHAR(255) COMMENT '채널 이름',
+                          is_active BOOLEAN DEFAULT TRUE COMMENT '모니터링 여부',
+                          created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) COMMENT '모니터링 채널 목록';
+
 -- 방송 기록 테이블
 CREATE TABLE streams (
                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
                          live_id VARCHAR(255) NOT NULL UNIQUE COMMENT '치지직 API가 제공하는 방송 고유 ID',
+                         channel_id VARCHAR(64) COMMENT '방송 채널 ID',
                          title VARCHAR(255) COMMENT '방송 제목',
                          start_time DATETIME NOT NULL COMMENT '방송 시작 시간',
                          end_time DATETIME COMMENT '방송 종료 시간',
@@ -25,5 +35,77 @@ CREATE TABLE stream_schedules (
                                   scheduled_start_time DATETIME NOT NULL COMMENT '방송 예정 시작 시간',
                                   description TEXT COMMENT '방송 관련 상세 설명',
                                   is_cancelled BOOLEAN DEFAULT FALSE COMMENT '방송 취소 여부',
-                                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-) COMMENT '방송 일정';
\ No newline at end of file
+                                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '변경 감지용 (메모리 인덱스 갱신)',
+                                  INDEX idx_schedules_cancelled_start (is_cancelled, scheduled_start_time)
+) COMMENT '방송 일정';
+
+-- 알림 아웃박스 테이블 (streams 행을 처음 만든 호출만 적재, 릴레이가 배치로 전송)
+CREATE TABLE notification_outbox (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     idempotency_key VARCHAR(255) NOT NULL UNIQUE COMMENT '중복 전송 방지 키 (type:liveId)',
+                                     type VARCHAR(50) NOT NULL COMMENT '알림 종류 (live_start 등)',
+                                     live_id VARCHAR(255) COMMENT '관련 방송 ID',
+                                     topic VARCHAR(100) NOT NULL COMMENT 'FCM 토픽',
+                                     title VARCHAR(255) NOT NULL COMMENT '알림 제목',
+                                     body VARCHAR(1000) COMMENT '알림 내용',
+                                     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, SENT, FAILED',
+                                     attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+                                     next_attempt_at DATETIME NOT NULL COMMENT '다음 전송 시도 시간',
+                                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                     sent_at DATETIME COMMENT '전송 완료 시간',
+                                     INDEX idx_outbox_due (status, next_attempt_at)
+) COMMENT '알림 아웃박스';
+
+-- 다시보기 카탈로그 (치지직 영상 목록을 백그라운드로 증분 동기화, API는 video_no 키셋 페이지네이션)
+CREATE TABLE replays (
+                         video_no BIGINT PRIMARY KEY COMMENT '치지직 영상 번호',
+                         channel_id VARCHAR(64) NOT NULL,
+                         video_id VARCHAR(64),
+                         video_title VARCHAR(255),
+                         thumbnail_image_url VARCHAR(1024),
+                         read_count INT NOT NULL DEFAULT 0,
+                         publish_date DATETIME,
+                         channel_name VARCHAR(255),
+                         channel_image_url VARCHAR(1024),
+                         created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                         INDEX idx_replays_channel_no (channel_id, video_no)
+) COMMENT '다시보기 카탈로그';
+
+-- 방송별 시청자 수 시계열 (폴링 샘플을 묶어 델타 인코딩한 청크 단위로 저장)
+CREATE TABLE stream_viewer_chunks (
+                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                      live_id VARCHAR(255) NOT NULL COMMENT '방송 고유 ID',
+                                      start_at BIGINT NOT NULL COMMENT '첫 샘플 시각 (epoch ms)',
+                                      end_at BIGINT NOT NULL COMMENT '마지막 샘플 시각 (epoch ms)',
+                                      sample_count INT NOT NULL COMMENT '청크의 샘플 수',
+                                      min_count INT NOT NULL COMMENT '최소 시청자 수',
+                                      max_count INT NOT NULL COMMENT '최대 시청자 수',
+                                      payload VARBINARY(8192) NOT NULL COMMENT '(시간 차, 시청자 수 차) zigzag varint 목록',
+                                      created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                      INDEX idx_viewer_chunks_live_start (live_id, start_at)
+) COMMENT '방송별 시청자 수 시계열';
+
+-- 노드 간 리더 임대 (리더가 expires_at 전에 연장하지 못하면 다른 노드가 가져감, 만료는 DB 시계로 판단)
+CREATE TABLE cluster_leases (
+                                name VARCHAR(64) PRIMARY KEY COMMENT '임대 이름 (chzzk-poller)',
+                                holder VARCHAR(255) NOT NULL COMMENT '현재 리더 노드 ID',
+                                expires_at DATETIME(3) NOT NULL COMMENT '임대 만료 시각'
+) COMMENT '노드 간 리더 임대';
+
+-- 리더가 폴링한 채널별 현재 라이브 상태 (팔로워 노드는 치지직 대신 이 테이블을 읽음)
+CREATE TABLE live_states (
+                             channel_id VARCHAR(64) PRIMARY KEY,
+                             live_id VARCHAR(255),
+                             live_title VARCHAR(255),
+                             status VARCHAR(20) NOT NULL,
+                             concurrent_user_count INT NOT NULL DEFAULT 0,
+                             open_date VARCHAR(32),
+                             live_image_url VARCHAR(1024),
+                             polled_at BIGINT NOT NULL COMMENT '마지막 폴링 성공 시각 (epoch ms)',
+                             stale BOOLEAN NOT NULL DEFAULT FALSE COMMENT '마지막 폴링이 실패해 이전 상태를 유지 중인지',
+                             poll_interval_ms BIGINT NOT NULL COMMENT '리더의 현재 폴링 간격',
+                             leader_id VARCHAR(255) COMMENT '기록한 노드 ID',
+                             updated_at BIGINT NOT NULL COMMENT '마지막 기록 시각 (epoch ms, 팔로워의 변경 감지용)'
+) COMMENT '채널별 현재 라이브 상태';
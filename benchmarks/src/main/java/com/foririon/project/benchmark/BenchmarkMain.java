@@ -0,0 +1,25 @@
+package com.foririon.project.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점. JMH 명령행 옵션을 그대로 받고, 할당량 비교를 위해 GC 프로파일러를 항상 붙인다.
+ * (처리량과 함께 gc.alloc.rate.norm = 연산당 할당 바이트가 출력된다)
+ *
+ * java -jar target/benchmarks.jar                      전체 실행
+ * java -jar target/benchmarks.jar ChzzkPayload -f 1    이름이 일치하는 벤치마크만
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
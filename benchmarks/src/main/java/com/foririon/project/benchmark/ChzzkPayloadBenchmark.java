@@ -0,0 +1,101 @@
+package com.foririon.project.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foririon.project.service.chzzk.ChzzkClient;
+import com.foririon.project.vo.ChzzkApiResponseVO;
+import com.foririon.project.vo.LiveStatusContentVO;
+import com.foririon.project.vo.ReplayContentVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 치지직 응답 디코딩. ChzzkClient의 토큰 단위 디코더와 이전 방식(ObjectMapper로 VO 전체 바인딩)을 비교한다.
+ * 입력은 payloads/ 아래에 기록해 둔 실제 형태의 응답 (live-status: 폴링마다, live-detail: 방송 중 폴링마다, videos: 다시보기 동기화 페이지마다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChzzkPayloadBenchmark {
+
+    private ChzzkClient client;
+    private byte[] liveStatus;
+    private byte[] liveDetail;
+    private byte[] videos;
+
+    // 이전 경로 (FAIL_ON_UNKNOWN_PROPERTIES 끄고 제네릭 타입으로 readValue)
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final JavaType liveStatusType = objectMapper.getTypeFactory()
+            .constructParametricType(ChzzkApiResponseVO.class, LiveStatusContentVO.class);
+    private final JavaType videosType = objectMapper.getTypeFactory()
+            .constructParametricType(ChzzkApiResponseVO.class, ReplayContentVO.class);
+
+    @Setup
+    public void setup() throws IOException {
+        // 디코딩만 쓰므로 HTTP 풀(@PostConstruct)은 만들지 않는다
+        client = new ChzzkClient();
+        liveStatus = Payloads.read("payloads/live-status.json");
+        liveDetail = Payloads.read("payloads/live-detail.json");
+        videos = Payloads.read("payloads/videos.json");
+
+        // 두 경로의 결과가 같을 때만 비교 의미가 있다
+        sameResult("live-status", streamingLiveStatus(), databindLiveStatus());
+        sameResult("live-detail", streamingLiveDetail(), databindLiveDetail());
+        sameResult("videos", streamingVideos(), databindVideos());
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<LiveStatusContentVO> streamingLiveStatus() throws IOException {
+        return client.readLiveStatus(new ByteArrayInputStream(liveStatus));
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<LiveStatusContentVO> databindLiveStatus() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(liveStatus), liveStatusType);
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<LiveStatusContentVO> streamingLiveDetail() throws IOException {
+        return client.readLiveStatus(new ByteArrayInputStream(liveDetail));
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<LiveStatusContentVO> databindLiveDetail() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(liveDetail), liveStatusType);
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<ReplayContentVO> streamingVideos() throws IOException {
+        return client.readVideos(new ByteArrayInputStream(videos));
+    }
+
+    @Benchmark
+    public ChzzkApiResponseVO<ReplayContentVO> databindVideos() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(videos), videosType);
+    }
+
+    private void sameResult(String payload, Object streaming, Object databind) throws IOException {
+        String expected = objectMapper.writeValueAsString(databind);
+        String actual = objectMapper.writeValueAsString(streaming);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(payload + " decoded differently:\n" + expected + "\n" + actual);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.foririon.project.benchmark;
+
+import com.foririon.project.service.push.FcmMessages;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCMServiceImpl이 전송 전에 만드는 메시지 (전송 자체는 제외).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FcmMessageBenchmark {
+
+    private static final String TITLE = "이리온 방송 시작!";
+    private static final String BODY = "지금 방송 중입니다 ❄️🌸";
+
+    private List<String> tokens;
+
+    @Setup
+    public void setup() {
+        // FCM 멀티캐스트 한 배치 크기
+        tokens = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            tokens.add(String.format("d%07d:APA91bH%0140d", i, i));
+        }
+    }
+
+    @Benchmark
+    public Message topic() {
+        return FcmMessages.topic("live_start", TITLE, BODY, "live_start");
+    }
+
+    @Benchmark
+    public Message token() {
+        return FcmMessages.token(tokens.get(0), TITLE, BODY, "live_start");
+    }
+
+    @Benchmark
+    public MulticastMessage multicastBatch() {
+        Map<String, String> data = FcmMessages.data("live_start");
+        Notification notification = FcmMessages.notification(TITLE, BODY);
+        return FcmMessages.multicast(tokens, notification, data);
+    }
+}
@@ -0,0 +1,183 @@
+package com.foririon.project.benchmark;
+
+import com.foririon.project.mapper.NotificationMapper;
+import com.foririon.project.mapper.ReplayMapper;
+import com.foririon.project.mapper.StreamMapper;
+import com.foririon.project.mapper.StreamScheduleMapper;
+import com.foririon.project.vo.DeviceVO;
+import com.foririon.project.vo.ReplayVO;
+import com.foririon.project.vo.StreamScheduleVO;
+import com.foririon.project.vo.StreamVO;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 XML → JDBC → 결과 매핑 왕복. 운영과 같은 매퍼 파일과 HikariCP 풀을 쓰고 DB만 H2 메모리 DB(MySQL 모드)로 바꾼다.
+ * 네트워크/디스크 비용이 빠지므로 절대값보다 매핑·구문 처리 비용의 비교에 쓴다.
+ * H2는 idx_replays_channel_no를 역순 정렬에 쓰지 않고 조건에 맞는 행을 모두 정렬하므로,
+ * replays* 결과는 MySQL보다 불리하게(커서 앞쪽 페이지일수록) 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final String CHANNEL_ID = "4d5b3c2a1f0e9d8c7b6a5f4e3d2c1b0a";
+    private static final int REPLAYS = 2000;
+    private static final int DEVICES = 5000;
+    private static final long TOP_VIDEO_NO = 9000000;
+
+    private HikariDataSource dataSource;
+    private StreamMapper streamMapper;
+    private ReplayMapper replayMapper;
+    private StreamScheduleMapper streamScheduleMapper;
+    private NotificationMapper notificationMapper;
+
+    private List<ReplayVO> upsertPage;
+    private Date scheduleFrom;
+
+    @Setup
+    public void setup() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(4);
+        new ResourceDatabasePopulator(new ClassPathResource("sql/benchmark-schema.sql")).execute(dataSource);
+        seed();
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath*:mappers/**/*.xml"));
+        SqlSessionFactory factory = factoryBean.getObject();
+        SqlSessionTemplate template = new SqlSessionTemplate(factory);
+        streamMapper = template.getMapper(StreamMapper.class);
+        replayMapper = template.getMapper(ReplayMapper.class);
+        streamScheduleMapper = template.getMapper(StreamScheduleMapper.class);
+        notificationMapper = template.getMapper(NotificationMapper.class);
+
+        // 동기화 한 번에 들어오는 최신 페이지 (모두 기존 행이라 UPDATE 경로)
+        upsertPage = replayMapper.findReplaysBefore(CHANNEL_ID, null, 20);
+        scheduleFrom = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    private void seed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO replays (video_no, channel_id, video_id, video_title, thumbnail_image_url, read_count,"
+                            + " publish_date, channel_name, channel_image_url) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < REPLAYS; i++) {
+                    long videoNo = TOP_VIDEO_NO - i;
+                    ps.setLong(1, videoNo);
+                    ps.setString(2, CHANNEL_ID);
+                    ps.setString(3, String.format("%032X", videoNo * 2654435761L));
+                    ps.setString(4, "[다시보기] 이리온 방송 #" + (REPLAYS - i));
+                    ps.setString(5, "https://video-phinf.pstatic.net/" + videoNo + "_image.jpg");
+                    ps.setInt(6, 1000 + i);
+                    ps.setTimestamp(7, new Timestamp(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(i * 24L)));
+                    ps.setString(8, "이리온");
+                    ps.setString(9, "https://nng-phinf.pstatic.net/profile/irion.png");
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO stream_schedules (title, scheduled_start_time, description) VALUES (?, ?, ?)")) {
+                for (int i = -60; i < 60; i++) {
+                    ps.setString(1, "정기 방송");
+                    ps.setTimestamp(2, new Timestamp(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(i)));
+                    ps.setString(3, "방송 설명");
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO devices (fcm_token) VALUES (?)")) {
+                for (int i = 0; i < DEVICES; i++) {
+                    ps.setString(1, String.format("d%07d:APA91bH%0140d", i, i));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO streams (live_id, channel_id, title, start_time, notification_sent) VALUES (?, ?, ?, ?, TRUE)")) {
+                ps.setString(1, "11223344");
+                ps.setString(2, CHANNEL_ID);
+                ps.setString(3, "이리온 저녁 방송");
+                ps.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    @Benchmark
+    public StreamVO streamByLiveId() {
+        return streamMapper.findByLiveId("11223344");
+    }
+
+    @Benchmark
+    public List<ReplayVO> replaysFirstPage() {
+        return replayMapper.findReplaysBefore(CHANNEL_ID, null, 20);
+    }
+
+    // 페이지 위치와 무관하게 같은 비용이어야 하는 키셋 페이지
+    @Benchmark
+    public List<ReplayVO> replaysDeepPage() {
+        return replayMapper.findReplaysBefore(CHANNEL_ID, TOP_VIDEO_NO - REPLAYS + 100, 20);
+    }
+
+    @Benchmark
+    public int upsertReplayPage() {
+        return replayMapper.upsertReplays(CHANNEL_ID, upsertPage);
+    }
+
+    @Benchmark
+    public List<StreamScheduleVO> schedulesFrom() {
+        return streamScheduleMapper.findSchedulesFrom(scheduleFrom);
+    }
+
+    // 멀티캐스트 한 배치 분량의 토큰 페이지
+    @Benchmark
+    public List<DeviceVO> activeTokenPage() {
+        return notificationMapper.findActiveTokensAfter(DEVICES / 2, 500);
+    }
+
+    // H2에서 MySQL DATE_FORMAT(date, '%Y-%m-%d %H:%i:%s') 대체
+    public static String dateFormat(Timestamp value, String pattern) {
+        if (value == null) {
+            return null;
+        }
+        String javaPattern = pattern.replace("%Y", "yyyy").replace("%m", "MM").replace("%d", "dd")
+                .replace("%H", "HH").replace("%i", "mm").replace("%s", "ss");
+        return new SimpleDateFormat(javaPattern).format(value);
+    }
+}
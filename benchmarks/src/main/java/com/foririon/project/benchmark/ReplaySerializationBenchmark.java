@@ -0,0 +1,80 @@
+package com.foririon.project.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foririon.project.service.cache.ResponseSnapshots;
+import com.foririon.project.service.cache.SerializedSnapshot;
+import com.foririon.project.vo.ChannelVO;
+import com.foririon.project.vo.ReplayVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다시보기 목록 응답 직렬화.
+ * converter: Spring MVC 기본 메시지 컨버터의 ObjectMapper, snapshot: ReplayController가 쓰는 JSON+gzip+ETag 스냅샷.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplaySerializationBenchmark {
+
+    // 기본 페이지 크기와 최대 페이지 크기
+    @Param({"20", "100"})
+    private int size;
+
+    private List<ReplayVO> replays;
+    private ObjectMapper converterMapper;
+    private ResponseSnapshots responseSnapshots;
+
+    @Setup
+    public void setup() {
+        converterMapper = new MappingJackson2HttpMessageConverter().getObjectMapper();
+        responseSnapshots = new ResponseSnapshots();
+
+        ChannelVO channel = new ChannelVO();
+        channel.setChannelId("4d5b3c2a1f0e9d8c7b6a5f4e3d2c1b0a");
+        channel.setChannelName("이리온");
+        channel.setChannelImageUrl("https://nng-phinf.pstatic.net/profile/irion.png");
+
+        replays = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int videoNo = 9876543 - i * 7;
+            ReplayVO replay = new ReplayVO();
+            replay.setVideoNo(videoNo);
+            replay.setVideoId(String.format("%032X", videoNo * 2654435761L));
+            replay.setVideoTitle("[다시보기] 이리온 방송 #" + (300 - i) + " | 스토리 게임 정주행 🌸");
+            replay.setThumbnailImageUrl("https://video-phinf.pstatic.net/20261017_" + i + "/" + videoNo + "_image.jpg");
+            replay.setReadCount(1200 + i * 37);
+            replay.setPublishDateAt("2026-10-17 23:41:07");
+            replay.setChannel(channel);
+            replays.add(replay);
+        }
+    }
+
+    @Benchmark
+    public byte[] converter() throws JsonProcessingException {
+        return converterMapper.writeValueAsBytes(replays);
+    }
+
+    @Benchmark
+    public SerializedSnapshot snapshot() {
+        return responseSnapshots.serialize(replays);
+    }
+}
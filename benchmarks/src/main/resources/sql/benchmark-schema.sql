@@ -0,0 +1,49 @@
+-- 매퍼 벤치마크용 H2(MySQL 호환 모드) 스키마. backend/src/main/resources/sql/schema.sql에서 사용하는 테이블만
+CREATE TABLE devices (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    fcm_token VARCHAR(255) NOT NULL UNIQUE,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_devices_active_id ON devices (is_active, id);
+
+CREATE TABLE streams (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    live_id VARCHAR(255) NOT NULL UNIQUE,
+    channel_id VARCHAR(64),
+    title VARCHAR(255),
+    start_time DATETIME NOT NULL,
+    end_time DATETIME,
+    notification_sent BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE stream_schedules (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    scheduled_start_time DATETIME NOT NULL,
+    description TEXT,
+    is_cancelled BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_schedules_cancelled_start ON stream_schedules (is_cancelled, scheduled_start_time);
+
+CREATE TABLE replays (
+    video_no BIGINT PRIMARY KEY,
+    channel_id VARCHAR(64) NOT NULL,
+    video_id VARCHAR(64),
+    video_title VARCHAR(255),
+    thumbnail_image_url VARCHAR(1024),
+    read_count INT NOT NULL DEFAULT 0,
+    publish_date DATETIME,
+    channel_name VARCHAR(255),
+    channel_image_url VARCHAR(1024),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_replays_channel_no ON replays (channel_id, video_no);
+
+-- ReplayMapper가 쓰는 MySQL DATE_FORMAT
+CREATE ALIAS DATE_FORMAT FOR "com.foririon.project.benchmark.MapperBenchmark.dateFormat";
@@ -0,0 +1,106 @@
+package com.foririon.project.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MySQL 앞에 두는 TCP 프록시. 클라이언트가 보낸 패킷(쿼리)마다 latencyMillis만큼 늦게 전달해 느린 DB를 흉내 낸다.
+ */
+class DatabaseLatencyProxy {
+
+    private final String targetHost;
+    private final int targetPort;
+    private final int listenPort;
+    private final long latencyMillis;
+
+    private final AtomicLong delayedPackets = new AtomicLong();
+
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    DatabaseLatencyProxy(String targetHost, int targetPort, int listenPort, long latencyMillis) {
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+        this.listenPort = listenPort;
+        this.latencyMillis = latencyMillis;
+    }
+
+    void start() throws IOException {
+        // 커넥션마다 방향별로 한 스레드
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "db-proxy-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        serverSocket = new ServerSocket(listenPort, 128, InetAddress.getByName("127.0.0.1"));
+        executor.execute(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket server = new Socket(targetHost, targetPort);
+                client.setTcpNoDelay(true);
+                server.setTcpNoDelay(true);
+                executor.execute(() -> pump(client, server, true));
+                executor.execute(() -> pump(server, client, false));
+            } catch (IOException e) {
+                // 종료 중이거나 DB에 연결하지 못함 (클라이언트 쪽에서 오류로 보인다)
+            }
+        }
+    }
+
+    private void pump(Socket from, Socket to, boolean delay) {
+        byte[] buffer = new byte[16 * 1024];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (delay) {
+                    delayedPackets.incrementAndGet();
+                    TimeUnit.MILLISECONDS.sleep(latencyMillis);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 한쪽이 닫힘
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+
+    void stop() {
+        closeQuietly(serverSocket);
+        executor.shutdownNow();
+    }
+
+    long getDelayedPackets() {
+        return delayedPackets.get();
+    }
+
+    long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 이미 닫힘
+        }
+    }
+}
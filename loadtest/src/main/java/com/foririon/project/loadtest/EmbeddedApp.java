@@ -0,0 +1,51 @@
+package com.foririon.project.loadtest;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * backend 웹앱(web.xml + WEB-INF/spring)을 내장 Tomcat으로 기동. 클래스는 이 모듈의 클래스패스에서 읽는다.
+ */
+class EmbeddedApp {
+
+    private final Tomcat tomcat = new Tomcat();
+
+    void start(int port, String webapp, int maxThreads) throws IOException, LifecycleException {
+        File docBase = new File(webapp).getCanonicalFile();
+        if (!new File(docBase, "WEB-INF/web.xml").isFile()) {
+            throw new IOException("WEB-INF/web.xml not found under " + docBase + " (use --webapp=<backend/src/main/webapp>)");
+        }
+
+        tomcat.setBaseDir(Files.createTempDirectory("loadtest-tomcat").toString());
+        tomcat.setPort(port);
+        Connector connector = tomcat.getConnector();
+        connector.setProperty("acceptCount", "1000");
+        if (maxThreads > 0) {
+            connector.setProperty("maxThreads", String.valueOf(maxThreads));
+            connector.setProperty("minSpareThreads", String.valueOf(Math.min(10, maxThreads)));
+        }
+
+        Context context = tomcat.addWebapp("", docBase.getPath());
+        context.setParentClassLoader(EmbeddedApp.class.getClassLoader());
+        // web.xml로만 구성하므로 클래스패스 jar 스캔(ServletContainerInitializer/TLD)은 생략
+        ((StandardJarScanner) context.getJarScanner()).setScanClassPath(false);
+
+        tomcat.start();
+        if (!context.getState().isAvailable()) {
+            tomcat.stop();
+            throw new IllegalStateException("webapp failed to start (see log above)");
+        }
+    }
+
+    void stop() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+}
@@ -0,0 +1,70 @@
+package com.foririon.project.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 종류별 응답 시간 분포와 오류 수.
+ * 응답 시간은 실제 전송 시각이 아니라 예정 전송 시각부터 재므로, 서버가 밀려 전송이 늦어진 시간도 포함된다.
+ */
+class EndpointStats {
+
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(120);
+
+    private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong clientErrors = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicLong ioErrors = new AtomicLong();
+
+    void record(long latencyNanos, int status) {
+        recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        requests.incrementAndGet();
+        if (status == 304) {
+            notModified.incrementAndGet();
+        } else if (status >= 500) {
+            serverErrors.incrementAndGet();
+        } else if (status >= 400) {
+            clientErrors.incrementAndGet();
+        }
+    }
+
+    // 연결 실패/타임아웃
+    void recordIoError(long latencyNanos) {
+        recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        requests.incrementAndGet();
+        ioErrors.incrementAndGet();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long getRequests() {
+        return requests.get();
+    }
+
+    long getNotModified() {
+        return notModified.get();
+    }
+
+    long getErrors() {
+        return clientErrors.get() + serverErrors.get() + ioErrors.get();
+    }
+
+    long getClientErrors() {
+        return clientErrors.get();
+    }
+
+    long getServerErrors() {
+        return serverErrors.get();
+    }
+
+    long getIoErrors() {
+        return ioErrors.get();
+    }
+}
@@ -0,0 +1,189 @@
+package com.foririon.project.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 치지직 API와 FCM HTTP v1 API를 흉내 내는 로컬 서버.
+ * 치지직: live-status / live-detail / videos, FCM: POST /v1/projects/{project}/messages:send
+ */
+class FakeServers {
+
+    private static final Pattern CHZZK_PATH = Pattern.compile("/(?:polling|service)/v\\d/channels/([^/]+)/(live-status|live-detail|videos)");
+
+    private final LoadTestConfig config;
+    private final FaultProfile chzzkFaults;
+    private final FaultProfile fcmFaults;
+
+    private HttpServer chzzkServer;
+    private HttpServer fcmServer;
+    private ExecutorService executor;
+
+    private final AtomicLong fcmMessages = new AtomicLong();
+    private final long startedAt = System.currentTimeMillis();
+
+    FakeServers(LoadTestConfig config) {
+        this.config = config;
+        this.chzzkFaults = config.chzzkFaults();
+        this.fcmFaults = config.fcmFaults();
+    }
+
+    void start() throws IOException {
+        // 지연을 sleep으로 흉내 내므로 동시 요청 수만큼 스레드가 필요
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(config.fakeThreads, r -> {
+            Thread thread = new Thread(r, "fake-upstream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        chzzkServer = HttpServer.create(new InetSocketAddress("127.0.0.1", config.chzzkPort), 1024);
+        chzzkServer.createContext("/", this::handleChzzk);
+        chzzkServer.setExecutor(executor);
+        chzzkServer.start();
+
+        fcmServer = HttpServer.create(new InetSocketAddress("127.0.0.1", config.fcmPort), 1024);
+        fcmServer.createContext("/", this::handleFcm);
+        fcmServer.setExecutor(executor);
+        fcmServer.start();
+    }
+
+    void stop() {
+        chzzkServer.stop(0);
+        fcmServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleChzzk(HttpExchange exchange) throws IOException {
+        Matcher matcher = CHZZK_PATH.matcher(exchange.getRequestURI().getPath());
+        if (!matcher.matches()) {
+            send(exchange, 404, "{}");
+            return;
+        }
+        if (chzzkFaults.apply(exchange)) {
+            return;
+        }
+        String channelId = matcher.group(1);
+        if ("videos".equals(matcher.group(2))) {
+            send(exchange, 200, videos(channelId, exchange.getRequestURI()));
+        } else {
+            send(exchange, 200, liveStatus(channelId));
+        }
+    }
+
+    // live-cycle-sec 주기의 앞 절반은 방송 중, 뒤 절반은 종료 (주기마다 새 liveId)
+    private String liveStatus(String channelId) {
+        long elapsed = System.currentTimeMillis() - startedAt;
+        long cycle = config.liveCycleSeconds * 1000L;
+        long period = cycle > 0 ? elapsed / cycle : 0;
+        boolean open = cycle <= 0 || elapsed % cycle < cycle / 2;
+        int viewers = 1000 + ThreadLocalRandom.current().nextInt(200);
+        return "{\"code\":200,\"message\":null,\"content\":{"
+                + "\"liveId\":\"" + channelId + "-" + period + "\","
+                + "\"liveTitle\":\"부하 테스트 방송 " + period + "\","
+                + "\"status\":\"" + (open ? "OPEN" : "CLOSE") + "\","
+                + "\"concurrentUserCount\":" + viewers + ","
+                + "\"accumulateCount\":" + (viewers * 7) + ","
+                + "\"openDate\":\"2026-10-17 20:00:00\","
+                + "\"liveImageUrl\":\"https://livecloud-thumb.akamaized.net/" + channelId + "/image_{type}.jpg\","
+                + "\"chatChannelId\":\"N1a2B3\",\"tags\":[\"버튜버\",\"게임\"],\"categoryType\":\"GAME\"}}";
+    }
+
+    private String videos(String channelId, URI uri) {
+        int page = queryInt(uri, "page", 0);
+        int size = queryInt(uri, "size", 18);
+        int total = config.videoCount;
+        int top = 1000000 + total;
+        StringBuilder data = new StringBuilder();
+        for (int i = page * size; i < Math.min(total, (page + 1) * size); i++) {
+            int videoNo = top - i;
+            if (data.length() > 0) {
+                data.append(',');
+            }
+            data.append("{\"videoNo\":").append(videoNo)
+                    .append(",\"videoId\":\"V").append(videoNo).append("\"")
+                    .append(",\"videoTitle\":\"다시보기 ").append(videoNo).append("\"")
+                    .append(",\"thumbnailImageUrl\":\"https://video-phinf.pstatic.net/").append(videoNo).append(".jpg\"")
+                    .append(",\"readCount\":").append(100 + i)
+                    .append(",\"publishDate\":\"2026-10-01 20:00:00\"")
+                    .append(",\"channel\":{\"channelId\":\"").append(channelId).append("\",\"channelName\":\"loadtest\"}}");
+        }
+        return "{\"code\":200,\"message\":null,\"content\":{\"page\":" + page + ",\"size\":" + size
+                + ",\"totalCount\":" + total + ",\"totalPages\":" + ((total + size - 1) / size)
+                + ",\"data\":[" + data + "]}}";
+    }
+
+    private void handleFcm(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (!"POST".equals(exchange.getRequestMethod()) || !path.endsWith("/messages:send")) {
+            send(exchange, 404, "{}");
+            return;
+        }
+        drain(exchange.getRequestBody());
+        if (fcmFaults.apply(exchange)) {
+            return;
+        }
+        long id = fcmMessages.incrementAndGet();
+        send(exchange, 200, "{\"name\":\"projects/override/messages/" + id + "\"}");
+    }
+
+    private static int queryInt(URI uri, String name, int defaultValue) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                try {
+                    return Integer.parseInt(pair.substring(eq + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        while (in.read(buffer) != -1) {
+            // 요청 본문은 사용하지 않음
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    FaultProfile getChzzkFaults() {
+        return chzzkFaults;
+    }
+
+    FaultProfile getFcmFaults() {
+        return fcmFaults;
+    }
+
+    long getFcmMessages() {
+        return fcmMessages.get();
+    }
+}
@@ -0,0 +1,85 @@
+package com.foririon.project.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가짜 업스트림의 지연/실패 설정.
+ * 요청마다 latency±jitter 만큼 지연하고, failureRate 확률로 503, slowRate 확률로 slowMillis 동안 응답을 끈다.
+ */
+class FaultProfile {
+
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private final double slowRate;
+    private final long slowMillis;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong slow = new AtomicLong();
+
+    FaultProfile(long latencyMillis, long jitterMillis, double failureRate, double slowRate, long slowMillis) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+        this.slowRate = slowRate;
+        this.slowMillis = slowMillis;
+    }
+
+    // 지연을 적용하고, 실패로 응답했으면 true
+    boolean apply(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMillis;
+        if (jitterMillis > 0) {
+            delay += random.nextLong(-jitterMillis, jitterMillis + 1);
+        }
+        if (slowRate > 0 && random.nextDouble() < slowRate) {
+            slow.incrementAndGet();
+            delay = slowMillis;
+        }
+        sleep(delay);
+
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            failures.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return true;
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getRequests() {
+        return requests.get();
+    }
+
+    long getFailures() {
+        return failures.get();
+    }
+
+    long getSlow() {
+        return slow.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("latency=%dms±%d failure=%.3f slow=%.3f(%dms)",
+                latencyMillis, jitterMillis, failureRate, slowRate, slowMillis);
+    }
+}
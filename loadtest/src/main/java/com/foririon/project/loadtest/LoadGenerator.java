@@ -0,0 +1,223 @@
+package com.foririon.project.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 요청률(open-loop) 부하 생성기.
+ * 응답을 기다리지 않고 예정 시각마다 요청을 보내므로, 서버가 느려져도 요청률이 줄지 않고 지연이 그대로 측정된다.
+ */
+class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final ExecutorService workers;
+
+    // 조건부 요청에 쓸 마지막 ETag / 다시보기 커서
+    private final AtomicReference<String> liveStatusEtag = new AtomicReference<>();
+    private final AtomicReference<String> replayCursor = new AtomicReference<>();
+
+    LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.baseUrl = config.baseUrl();
+        // HttpURLConnection keep-alive 풀 크기 (기본 5개라 나머지는 매번 새 연결이 된다)
+        System.setProperty("http.maxConnections", String.valueOf(config.workers));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(config.workers, config.workers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "load-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // seconds 동안 부하를 걸고 요청 종류별 통계를 반환
+    Map<Scenario, EndpointStats> run(int seconds) throws InterruptedException {
+        Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new EndpointStats());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rps;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (long n = 0; ; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = Scenario.pick(ThreadLocalRandom.current().nextInt());
+            EndpointStats endpoint = stats.get(scenario);
+            workers.execute(() -> execute(scenario, endpoint, intended));
+        }
+
+        // 마지막으로 보낸 요청까지 응답을 기다린다
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) workers;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.timeoutMillis * 2L);
+        while ((pool.getActiveCount() > 0 || !pool.getQueue().isEmpty()) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        return stats;
+    }
+
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void execute(Scenario scenario, EndpointStats stats, long intended) {
+        HttpURLConnection connection = null;
+        try {
+            connection = open(scenario);
+            int status = connection.getResponseCode();
+            consume(connection, status);
+            afterResponse(scenario, connection, status);
+            stats.record(System.nanoTime() - intended, status);
+        } catch (IOException e) {
+            stats.recordIoError(System.nanoTime() - intended);
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private HttpURLConnection open(Scenario scenario) throws IOException {
+        String channel = "channel=" + config.channel;
+        switch (scenario) {
+            case LIVE_STATUS:
+                return get("/api/stream/live-status", null);
+            case LIVE_STATUS_REVALIDATE:
+                return get("/api/stream/live-status", liveStatusEtag.get());
+            case IS_LIVE:
+                return get("/api/stream/is-live?" + channel, null);
+            case REPLAYS:
+                return get("/api/stream/replays", null);
+            case REPLAYS_PAGE:
+                String cursor = replayCursor.get();
+                return get("/api/stream/replays?limit=20" + (cursor != null ? "&cursor=" + cursor : ""), null);
+            case SCHEDULES:
+                return get("/api/schedules", null);
+            default:
+                return register();
+        }
+    }
+
+    private HttpURLConnection get(String path, String ifNoneMatch) throws IOException {
+        HttpURLConnection connection = connect(path);
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+        if (ifNoneMatch != null) {
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        }
+        return connection;
+    }
+
+    // 설치마다 새 토큰, 가끔 같은 토큰 재등록 (앱 재실행)
+    private HttpURLConnection register() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = random.nextInt(10) == 0 ? "loadtest-repeat-" + random.nextInt(100) : "loadtest-" + UUID.randomUUID();
+        byte[] body = ("{\"token\":\"" + token + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        HttpURLConnection connection = connect("/api/notifications/register");
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        return connection;
+    }
+
+    private HttpURLConnection connect(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setConnectTimeout(config.timeoutMillis);
+        connection.setReadTimeout(config.timeoutMillis);
+        connection.setUseCaches(false);
+        return connection;
+    }
+
+    private void afterResponse(Scenario scenario, HttpURLConnection connection, int status) {
+        if (scenario == Scenario.LIVE_STATUS && status == 200) {
+            String etag = connection.getHeaderField("ETag");
+            if (etag != null) {
+                liveStatusEtag.set(etag);
+            }
+        } else if (scenario == Scenario.REPLAYS_PAGE && status == 200) {
+            // 끝까지 넘기면 처음 페이지부터 다시
+            replayCursor.set(connection.getHeaderField("X-Next-Cursor"));
+        }
+    }
+
+    // 본문을 끝까지 읽어야 연결이 keep-alive 풀로 돌아간다
+    private static void consume(HttpURLConnection connection, int status) throws IOException {
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (in == null) {
+            return;
+        }
+        try (InputStream body = in) {
+            byte[] buffer = new byte[8192];
+            while (body.read(buffer) != -1) {
+                // 버림
+            }
+        }
+    }
+
+    static void report(PrintStream out, Map<Scenario, EndpointStats> stats, int seconds) {
+        out.printf("%-46s %9s %8s %7s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "rps", "304", "4xx", "5xx", "io", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = null;
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Scenario, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            Histogram histogram = endpoint.histogram();
+            if (total == null) {
+                total = new Histogram(histogram.getHighestTrackableValue(), 3);
+            }
+            total.add(histogram);
+            requests += endpoint.getRequests();
+            errors += endpoint.getErrors();
+            out.printf("%-46s %9d %8.1f %7d %7d %7d %7d %s%n",
+                    entry.getKey().getLabel(), endpoint.getRequests(), endpoint.getRequests() / (double) seconds,
+                    endpoint.getNotModified(), endpoint.getClientErrors(), endpoint.getServerErrors(), endpoint.getIoErrors(),
+                    percentiles(histogram));
+        }
+        out.printf("%-46s %9d %8.1f %31s %s%n", "total", requests, requests / (double) seconds,
+                String.format("errors %d (%.2f%%)", errors, requests > 0 ? errors * 100.0 / requests : 0), percentiles(total));
+    }
+
+    private static String percentiles(Histogram histogram) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return String.format("%9s %9s %9s %9s %9s", "-", "-", "-", "-", "-");
+        }
+        return String.format("%9.2f %9.2f %9.2f %9.2f %9.2f",
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
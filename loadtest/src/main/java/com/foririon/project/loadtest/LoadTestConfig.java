@@ -0,0 +1,115 @@
+package com.foririon.project.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 명령행 옵션 (--name=value). 지정하지 않은 항목은 기본값.
+ */
+class LoadTestConfig {
+
+    // 대상: 비어 있으면 내장 Tomcat + 가짜 업스트림을 띄우고, 지정하면 이미 떠 있는 서버에 부하만 건다
+    String target;
+    int appPort = 18080;
+    String webapp = "../backend/src/main/webapp";
+    // 0이면 Tomcat 기본값(200)
+    int tomcatThreads = 0;
+
+    // 부하
+    int rps = 1000;
+    int durationSeconds = 60;
+    int warmupSeconds = 15;
+    int workers = 512;
+    int timeoutMillis = 5000;
+    String channel = "loadtest-channel";
+
+    // 가짜 치지직
+    int chzzkPort = 18081;
+    long chzzkLatencyMillis = 50;
+    long chzzkJitterMillis = 20;
+    double chzzkFailureRate = 0.01;
+    double chzzkSlowRate = 0.001;
+    long chzzkSlowMillis = 6000;
+    int liveCycleSeconds = 120;
+    int videoCount = 300;
+
+    // 가짜 FCM
+    int fcmPort = 18082;
+    long fcmLatencyMillis = 30;
+    long fcmJitterMillis = 10;
+    double fcmFailureRate = 0.01;
+
+    int fakeThreads = 256;
+
+    // 느린 DB: 0보다 크면 db.url의 MySQL 앞에 프록시를 두고 쿼리마다 지연
+    int dbLatencyMillis = 0;
+    int dbProxyPort = 18084;
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Unknown argument: " + arg + " (expected --name=value)");
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig();
+        config.target = options.remove("target");
+        config.appPort = intOption(options, "app-port", config.appPort);
+        config.webapp = options.getOrDefault("webapp", config.webapp);
+        options.remove("webapp");
+        config.tomcatThreads = intOption(options, "tomcat-threads", config.tomcatThreads);
+        config.rps = intOption(options, "rps", config.rps);
+        config.durationSeconds = intOption(options, "duration", config.durationSeconds);
+        config.warmupSeconds = intOption(options, "warmup", config.warmupSeconds);
+        config.workers = intOption(options, "workers", config.workers);
+        config.timeoutMillis = intOption(options, "timeout-ms", config.timeoutMillis);
+        config.channel = options.getOrDefault("channel", config.channel);
+        options.remove("channel");
+
+        config.chzzkPort = intOption(options, "chzzk-port", config.chzzkPort);
+        config.chzzkLatencyMillis = intOption(options, "chzzk-latency-ms", (int) config.chzzkLatencyMillis);
+        config.chzzkJitterMillis = intOption(options, "chzzk-jitter-ms", (int) config.chzzkJitterMillis);
+        config.chzzkFailureRate = doubleOption(options, "chzzk-failure-rate", config.chzzkFailureRate);
+        config.chzzkSlowRate = doubleOption(options, "chzzk-slow-rate", config.chzzkSlowRate);
+        config.chzzkSlowMillis = intOption(options, "chzzk-slow-ms", (int) config.chzzkSlowMillis);
+        config.liveCycleSeconds = intOption(options, "live-cycle-sec", config.liveCycleSeconds);
+        config.videoCount = intOption(options, "videos", config.videoCount);
+
+        config.fcmPort = intOption(options, "fcm-port", config.fcmPort);
+        config.fcmLatencyMillis = intOption(options, "fcm-latency-ms", (int) config.fcmLatencyMillis);
+        config.fcmJitterMillis = intOption(options, "fcm-jitter-ms", (int) config.fcmJitterMillis);
+        config.fcmFailureRate = doubleOption(options, "fcm-failure-rate", config.fcmFailureRate);
+        config.fakeThreads = intOption(options, "fake-threads", config.fakeThreads);
+        config.dbLatencyMillis = intOption(options, "db-latency-ms", config.dbLatencyMillis);
+        config.dbProxyPort = intOption(options, "db-proxy-port", config.dbProxyPort);
+
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    FaultProfile chzzkFaults() {
+        return new FaultProfile(chzzkLatencyMillis, chzzkJitterMillis, chzzkFailureRate, chzzkSlowRate, chzzkSlowMillis);
+    }
+
+    FaultProfile fcmFaults() {
+        return new FaultProfile(fcmLatencyMillis, fcmJitterMillis, fcmFailureRate, 0, 0);
+    }
+
+    String baseUrl() {
+        return target != null ? target : "http://127.0.0.1:" + appPort;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.remove(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static double doubleOption(Map<String, String> options, String name, double defaultValue) {
+        String value = options.remove(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
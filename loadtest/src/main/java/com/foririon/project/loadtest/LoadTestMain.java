@@ -0,0 +1,132 @@
+package com.foririon.project.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 진입점.
+ * 가짜 치지직/FCM 서버와 내장 Tomcat 웹앱을 띄우고, 워밍업 후 고정 요청률로 부하를 걸어 요청 종류별 지연 분포와 오류율을 출력한다.
+ *
+ * java -jar target/loadtest.jar --rps=5000 --duration=60 --chzzk-failure-rate=0.05
+ * java -jar target/loadtest.jar --tomcat-threads=8 --db-latency-ms=200   (요청 스레드 수 고정, 느린 DB)
+ * java -jar target/loadtest.jar --target=http://staging:8080 --rps=500   (이미 떠 있는 서버에 부하만)
+ */
+public class LoadTestMain {
+
+    // context-root.xml의 기본값과 같게
+    private static final String DEFAULT_DB_URL = "jdbc:mysql://localhost:3306/for_irion?serverTimezone=Asia/Seoul";
+    private static final Pattern DB_HOST = Pattern.compile("//([^/:?]+)(?::(\\d+))?/");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        FakeServers fakeServers = null;
+        DatabaseLatencyProxy dbProxy = null;
+        EmbeddedApp app = null;
+        if (config.target == null) {
+            fakeServers = new FakeServers(config);
+            fakeServers.start();
+            System.out.printf("fake chzzk :%d (%s)%n", config.chzzkPort, fakeServers.getChzzkFaults());
+            System.out.printf("fake fcm   :%d (%s)%n", config.fcmPort, fakeServers.getFcmFaults());
+
+            // 웹앱 설정 (application.properties보다 시스템 프로퍼티가 우선, -D로 지정한 값은 유지)
+            defaultProperty("chzzk.api.base-url", "http://127.0.0.1:" + config.chzzkPort);
+            defaultProperty("fcm.endpoint-override", "http://127.0.0.1:" + config.fcmPort);
+            defaultProperty("chzzk.channel.id", config.channel);
+
+            if (config.dbLatencyMillis > 0) {
+                dbProxy = startDatabaseProxy(config);
+            }
+
+            app = new EmbeddedApp();
+            app.start(config.appPort, config.webapp, config.tomcatThreads);
+            waitUntilReady(config);
+        }
+
+        LoadGenerator generator = new LoadGenerator(config);
+        try {
+            if (config.warmupSeconds > 0) {
+                System.out.printf("warmup %ds at %d rps%n", config.warmupSeconds, config.rps);
+                generator.run(config.warmupSeconds);
+            }
+            System.out.printf("measuring %ds at %d rps against %s%n", config.durationSeconds, config.rps, config.baseUrl());
+            Map<Scenario, EndpointStats> stats = generator.run(config.durationSeconds);
+
+            System.out.println();
+            LoadGenerator.report(System.out, stats, config.durationSeconds);
+            if (fakeServers != null) {
+                System.out.println();
+                System.out.printf("upstream chzzk: requests=%d failures=%d slow=%d%n",
+                        fakeServers.getChzzkFaults().getRequests(), fakeServers.getChzzkFaults().getFailures(),
+                        fakeServers.getChzzkFaults().getSlow());
+                System.out.printf("upstream fcm  : requests=%d failures=%d delivered=%d%n",
+                        fakeServers.getFcmFaults().getRequests(), fakeServers.getFcmFaults().getFailures(),
+                        fakeServers.getFcmMessages());
+            }
+            if (dbProxy != null) {
+                System.out.printf("db proxy      : delayed packets=%d (+%dms each)%n",
+                        dbProxy.getDelayedPackets(), dbProxy.getLatencyMillis());
+            }
+        } finally {
+            generator.shutdown();
+            if (app != null) {
+                app.stop();
+            }
+            if (fakeServers != null) {
+                fakeServers.stop();
+            }
+            if (dbProxy != null) {
+                dbProxy.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    // db.url의 호스트/포트 앞에 지연 프록시를 두고 db.url을 프록시 주소로 바꾼다
+    private static DatabaseLatencyProxy startDatabaseProxy(LoadTestConfig config) throws IOException {
+        String url = System.getProperty("db.url", DEFAULT_DB_URL);
+        Matcher matcher = DB_HOST.matcher(url);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Cannot find host in db.url: " + url);
+        }
+        String host = matcher.group(1);
+        int port = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 3306;
+        DatabaseLatencyProxy proxy = new DatabaseLatencyProxy(host, port, config.dbProxyPort, config.dbLatencyMillis);
+        proxy.start();
+        System.setProperty("db.url", matcher.replaceFirst("//127.0.0.1:" + config.dbProxyPort + "/"));
+        System.out.printf("db proxy   :%d -> %s:%d (+%dms per query)%n", config.dbProxyPort, host, port, config.dbLatencyMillis);
+        return proxy;
+    }
+
+    private static void defaultProperty(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    // 첫 폴링이 끝나 라이브 상태가 채워질 때까지 대기
+    private static void waitUntilReady(LoadTestConfig config) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL(config.baseUrl() + "/api/stream/live-status").openConnection();
+                int status = connection.getResponseCode();
+                try (InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+                    if (status == 200 && in != null && in.read() != -1) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                // 아직 기동 중
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException("webapp did not become ready within 60s");
+    }
+}
@@ -0,0 +1,46 @@
+package com.foririon.project.loadtest;
+
+/**
+ * 요청 종류와 비중. 앱이 실제로 부르는 비율을 대략 따른다.
+ */
+enum Scenario {
+    LIVE_STATUS("GET  /api/stream/live-status", 30),
+    LIVE_STATUS_REVALIDATE("GET  /api/stream/live-status (If-None-Match)", 20),
+    IS_LIVE("GET  /api/stream/is-live", 10),
+    REPLAYS("GET  /api/stream/replays", 10),
+    REPLAYS_PAGE("GET  /api/stream/replays?cursor=", 5),
+    SCHEDULES("GET  /api/schedules", 15),
+    REGISTER("POST /api/notifications/register", 10);
+
+    private static final Scenario[] WHEEL;
+
+    static {
+        int total = 0;
+        for (Scenario scenario : values()) {
+            total += scenario.weight;
+        }
+        WHEEL = new Scenario[total];
+        int index = 0;
+        for (Scenario scenario : values()) {
+            for (int i = 0; i < scenario.weight; i++) {
+                WHEEL[index++] = scenario;
+            }
+        }
+    }
+
+    private final String label;
+    private final int weight;
+
+    Scenario(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    static Scenario pick(int random) {
+        return WHEEL[Math.floorMod(random, WHEEL.length)];
+    }
+}